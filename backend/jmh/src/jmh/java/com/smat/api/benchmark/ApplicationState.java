@@ -0,0 +1,48 @@
+package com.smat.api.benchmark;
+
+import com.smat.api.SmatApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용 애플리케이션 (H2 메모리 DB + loadtest 프로필의 대량 데이터)
+ * 데이터 크기(scale)마다 한 번 기동하고, 같은 fork의 벤치마크가 함께 씁니다.
+ * 웹 서버는 띄우지 않고 서비스 빈을 직접 호출합니다.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+    
+    // scale 1.0 = 게시글 100만, 강의 5만, 메뉴 2년치 (LoadTestDataLoader)
+    @Param({"0.001", "0.01", "0.1"})
+    public String scale;
+    
+    private ConfigurableApplicationContext context;
+    
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(SmatApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("loadtest")
+                .run("--smat.loadtest.scale=" + scale,
+                     "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL",
+                     "--spring.main.banner-mode=off",
+                     "--logging.level.root=WARN",
+                     "--logging.level.com.smat.api=WARN");
+    }
+    
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+    
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
@@ -0,0 +1,47 @@
+package com.smat.api.benchmark;
+
+import com.smat.api.campus.dto.MenuResponseDto;
+import com.smat.api.campus.service.CampusService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 학식 메뉴 조회 벤치마크
+ */
+@State(Scope.Benchmark)
+public class CampusBenchmark {
+    
+    private CampusService campusService;
+    private LocalDate today;
+    private LocalDate pastDate;
+    
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        campusService = application.getBean(CampusService.class);
+        today = LocalDate.now();
+        // 스냅샷 캐시 범위(오늘 ~ 6일 뒤) 밖의 날짜
+        pastDate = today.minusDays(30);
+    }
+    
+    /**
+     * 캐시 범위 안의 날짜 (메모리 스냅샷)
+     */
+    @Benchmark
+    public List<MenuResponseDto> getMenusByDate() {
+        return campusService.getMenusByDate(today);
+    }
+    
+    /**
+     * 캐시 범위 밖의 날짜 (DB 조회)
+     */
+    @Benchmark
+    public List<MenuResponseDto> getMenusByDatePast() {
+        return campusService.getMenusByDate(pastDate);
+    }
+}
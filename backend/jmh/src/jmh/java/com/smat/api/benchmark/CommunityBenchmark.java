@@ -0,0 +1,41 @@
+package com.smat.api.benchmark;
+
+import com.smat.api.community.dto.PostResponseDto;
+import com.smat.api.community.dto.PostSummaryDto;
+import com.smat.api.community.service.CommunityService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 커뮤니티 조회 벤치마크
+ * convertToDto는 private이므로 단건 조회(getPost = 조회 + convertToDto)로 측정합니다.
+ */
+@State(Scope.Benchmark)
+public class CommunityBenchmark {
+    
+    private CommunityService communityService;
+    private long maxPostId;
+    
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        communityService = application.getBean(CommunityService.class);
+        maxPostId = application.getBean(JdbcTemplate.class).queryForObject("SELECT MAX(id) FROM post", Long.class);
+    }
+    
+    @Benchmark
+    public PostResponseDto getPost() {
+        return communityService.getPost(ThreadLocalRandom.current().nextLong(1, maxPostId + 1));
+    }
+    
+    @Benchmark
+    public List<PostSummaryDto> getRecentPosts() {
+        return communityService.getRecentPosts();
+    }
+}
@@ -0,0 +1,64 @@
+package com.smat.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smat.api.campus.dto.MenuResponseDto;
+import com.smat.api.campus.service.CampusService;
+import com.smat.api.community.dto.PostPageResponseDto;
+import com.smat.api.community.dto.PostResponseDto;
+import com.smat.api.community.service.CommunityService;
+import com.smat.api.schedule.dto.LectureResponseDto;
+import com.smat.api.schedule.service.ScheduleService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * 응답 DTO의 JSON 직렬화 벤치마크 (애플리케이션과 같은 ObjectMapper 설정)
+ */
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+    
+    private ObjectMapper objectMapper;
+    private List<MenuResponseDto> todayMenus;
+    private List<LectureResponseDto> weeklySchedule;
+    private PostPageResponseDto postPage;
+    private PostResponseDto post;
+    
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        objectMapper = application.getBean(ObjectMapper.class);
+        todayMenus = application.getBean(CampusService.class).getTodayMenus();
+        weeklySchedule = application.getBean(ScheduleService.class).getWeeklySchedule();
+        CommunityService communityService = application.getBean(CommunityService.class);
+        postPage = communityService.getAllPosts(null, 20);
+        post = communityService.getPost(1L);
+    }
+    
+    @Benchmark
+    public byte[] todayMenus() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(todayMenus);
+    }
+    
+    /**
+     * 전체 시간표 (강의 수에 비례)
+     */
+    @Benchmark
+    public byte[] weeklySchedule() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(weeklySchedule);
+    }
+    
+    @Benchmark
+    public byte[] postPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(postPage);
+    }
+    
+    @Benchmark
+    public byte[] post() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(post);
+    }
+}
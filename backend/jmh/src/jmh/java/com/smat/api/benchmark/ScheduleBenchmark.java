@@ -0,0 +1,72 @@
+package com.smat.api.benchmark;
+
+import com.smat.api.schedule.domain.LectureTime;
+import com.smat.api.schedule.dto.FreeRoomResponseDto;
+import com.smat.api.schedule.dto.LectureResponseDto;
+import com.smat.api.schedule.service.ScheduleService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 시간표 조회 벤치마크
+ * 빈 강의실 조회는 비트셋 점유표(RoomOccupancyGrid)와 같은 조건의 SQL을 비교합니다.
+ */
+@State(Scope.Benchmark)
+public class ScheduleBenchmark {
+    
+    // LoadTestDataLoader가 만드는 첫 번째 학생
+    private static final String STUDENT_ID = "30000000";
+    
+    private static final String FREE_ROOMS_SQL =
+            "SELECT DISTINCT l.room FROM lecture l WHERE NOT EXISTS (" +
+            "SELECT 1 FROM lecture o WHERE o.room = l.room AND o.lecture_day = ? " +
+            "AND o.start_minute < ? AND o.end_minute > ?) ORDER BY l.room";
+    
+    private static final String[] TIMES = {"09:00-10:30", "10:30-12:00", "13:00-14:30", "14:30-16:00", "16:00-17:15"};
+    
+    private ScheduleService scheduleService;
+    private JdbcTemplate jdbcTemplate;
+    private int index;
+    
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        scheduleService = application.getBean(ScheduleService.class);
+        jdbcTemplate = application.getBean(JdbcTemplate.class);
+    }
+    
+    @Benchmark
+    public LectureResponseDto getNextLecture() {
+        return scheduleService.getNextLecture();
+    }
+    
+    @Benchmark
+    public LectureResponseDto getNextLectureByStudent() {
+        return scheduleService.getNextLecture(STUDENT_ID);
+    }
+    
+    /**
+     * 강의 시간 문자열 파싱 ("HH:mm-HH:mm" -> 분)
+     */
+    @Benchmark
+    public LectureTime parseLectureTime() {
+        index = (index + 1) % TIMES.length;
+        return LectureTime.parseOrNull(TIMES[index]);
+    }
+    
+    @Benchmark
+    public FreeRoomResponseDto getFreeRoomsGrid() {
+        return scheduleService.getFreeRooms("화", LocalTime.of(10, 0), LocalTime.of(12, 0));
+    }
+    
+    @Benchmark
+    public List<String> getFreeRoomsSql() {
+        return jdbcTemplate.queryForList(FREE_ROOMS_SQL, String.class, "화", 12 * 60, 10 * 60);
+    }
+}
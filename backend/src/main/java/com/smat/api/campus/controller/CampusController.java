@@ -1,14 +1,24 @@
 package com.smat.api.campus.controller;
 
+import com.smat.api.campus.dto.MenuCacheStatsDto;
 import com.smat.api.campus.dto.MenuResponseDto;
 import com.smat.api.campus.service.CampusService;
+import com.smat.api.common.DataAggregate;
+import com.smat.api.common.DataVersions;
+import com.smat.api.common.JsonResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -18,9 +28,16 @@ import java.util.List;
 public class CampusController {
     
     private final CampusService campusService;
+    private final DataVersions dataVersions;
+    private final JsonResponseCache jsonResponseCache;
+    private final Clock clock;
     
-    public CampusController(CampusService campusService) {
+    public CampusController(CampusService campusService, DataVersions dataVersions,
+                            JsonResponseCache jsonResponseCache, Clock clock) {
         this.campusService = campusService;
+        this.dataVersions = dataVersions;
+        this.jsonResponseCache = jsonResponseCache;
+        this.clock = clock;
     }
     
     /**
@@ -29,10 +46,16 @@ public class CampusController {
      * @return 오늘 날짜의 메뉴 리스트
      */
     @Operation(summary = "오늘의 메뉴 조회", description = "오늘 날짜의 모든 식당 메뉴를 반환합니다.")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = MenuResponseDto.class))))
     @GetMapping("/menus")
-    public ResponseEntity<List<MenuResponseDto>> getTodayMenus() {
-        List<MenuResponseDto> menus = campusService.getTodayMenus();
-        return ResponseEntity.ok(menus);
+    public ResponseEntity<byte[]> getTodayMenus(WebRequest webRequest) {
+        // ETag와 본문이 같은 날짜를 보도록 한 번만 계산 (자정 직전 요청)
+        LocalDate today = LocalDate.now(clock);
+        String etag = dataVersions.etag(DataAggregate.MENU, today);
+        // 직렬화된 JSON을 버전별로 캐시해 그대로 응답 (If-None-Match 확인 포함)
+        return jsonResponseCache.respond("campus.todayMenus", etag, webRequest,
+                () -> campusService.getMenusByDate(today));
     }
     
     /**
@@ -45,7 +68,11 @@ public class CampusController {
     @GetMapping("/menus/date")
     public ResponseEntity<List<MenuResponseDto>> getMenusByDate(
             @Parameter(description = "조회할 날짜 (yyyy-MM-dd)", example = "2024-03-15")
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(dataVersions.etag(DataAggregate.MENU))) {
+            return null;
+        }
         List<MenuResponseDto> menus = campusService.getMenusByDate(date);
         return ResponseEntity.ok(menus);
     }
@@ -64,8 +91,23 @@ public class CampusController {
             @Parameter(description = "조회할 날짜 (yyyy-MM-dd)", example = "2024-03-15")
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
             @Parameter(description = "시간대 (조식/중식/석식)", example = "중식")
-            @RequestParam String timeType) {
+            @RequestParam String timeType,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(dataVersions.etag(DataAggregate.MENU))) {
+            return null;
+        }
         List<MenuResponseDto> menus = campusService.getMenusByDateAndTimeType(date, timeType);
         return ResponseEntity.ok(menus);
     }
+    
+    /**
+     * 메뉴 캐시 통계를 조회하는 API
+     * 
+     * @return 캐시 적중/미적중 횟수
+     */
+    @Operation(summary = "메뉴 캐시 통계 조회", description = "날짜별 메뉴 스냅샷 캐시의 적중/미적중 횟수를 조회합니다.")
+    @GetMapping("/menus/cache-stats")
+    public ResponseEntity<MenuCacheStatsDto> getMenuCacheStats() {
+        return ResponseEntity.ok(campusService.getMenuCacheStats());
+    }
 }
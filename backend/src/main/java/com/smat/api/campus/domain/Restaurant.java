@@ -1,9 +1,15 @@
 package com.smat.api.campus.domain;
 
+import com.smat.api.common.SecondLevelCache;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import javax.persistence.*;
 
 @Entity
 @Table(name = "restaurant")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = SecondLevelCache.RESTAURANT_REGION) // 식당은 등록 후 수정하지 않음
 public class Restaurant {
     
     @Id
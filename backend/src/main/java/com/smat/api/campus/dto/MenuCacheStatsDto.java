@@ -0,0 +1,58 @@
+package com.smat.api.campus.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class MenuCacheStatsDto {
+    
+    private long hitCount;
+    private long missCount;
+    private List<LocalDate> cachedDates;
+    private LocalDateTime builtAt;
+    
+    // 기본 생성자
+    public MenuCacheStatsDto() {
+    }
+    
+    // 생성자
+    public MenuCacheStatsDto(long hitCount, long missCount, List<LocalDate> cachedDates, LocalDateTime builtAt) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.cachedDates = cachedDates;
+        this.builtAt = builtAt;
+    }
+    
+    // Getter & Setter
+    public long getHitCount() {
+        return hitCount;
+    }
+    
+    public void setHitCount(long hitCount) {
+        this.hitCount = hitCount;
+    }
+    
+    public long getMissCount() {
+        return missCount;
+    }
+    
+    public void setMissCount(long missCount) {
+        this.missCount = missCount;
+    }
+    
+    public List<LocalDate> getCachedDates() {
+        return cachedDates;
+    }
+    
+    public void setCachedDates(List<LocalDate> cachedDates) {
+        this.cachedDates = cachedDates;
+    }
+    
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+    
+    public void setBuiltAt(LocalDateTime builtAt) {
+        this.builtAt = builtAt;
+    }
+}
@@ -1,7 +1,10 @@
 package com.smat.api.campus.repository;
 
 import com.smat.api.campus.domain.Menu;
+import com.smat.api.campus.dto.MenuResponseDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -19,4 +22,36 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
      * 특정 날짜와 시간대의 메뉴 조회
      */
     List<Menu> findByDateAndTimeType(LocalDate date, String timeType);
+    
+    /**
+     * 특정 날짜의 메뉴를 식당명과 함께 조회 (단일 쿼리)
+     */
+    @Query("SELECT new com.smat.api.campus.dto.MenuResponseDto(" +
+           "m.id, m.date, m.timeType, m.menuName, m.price, COALESCE(r.name, '알 수 없는 식당')) " +
+           "FROM Menu m LEFT JOIN Restaurant r ON r.id = m.restaurantId " +
+           "WHERE m.date = :date " +
+           "ORDER BY m.id")
+    List<MenuResponseDto> findMenuDtosByDate(@Param("date") LocalDate date);
+    
+    /**
+     * 특정 날짜와 시간대의 메뉴를 식당명과 함께 조회 (단일 쿼리)
+     */
+    @Query("SELECT new com.smat.api.campus.dto.MenuResponseDto(" +
+           "m.id, m.date, m.timeType, m.menuName, m.price, COALESCE(r.name, '알 수 없는 식당')) " +
+           "FROM Menu m LEFT JOIN Restaurant r ON r.id = m.restaurantId " +
+           "WHERE m.date = :date AND m.timeType = :timeType " +
+           "ORDER BY m.id")
+    List<MenuResponseDto> findMenuDtosByDateAndTimeType(@Param("date") LocalDate date,
+                                                        @Param("timeType") String timeType);
+    
+    /**
+     * 기간 내 메뉴를 식당명과 함께 조회 (단일 쿼리)
+     */
+    @Query("SELECT new com.smat.api.campus.dto.MenuResponseDto(" +
+           "m.id, m.date, m.timeType, m.menuName, m.price, COALESCE(r.name, '알 수 없는 식당')) " +
+           "FROM Menu m LEFT JOIN Restaurant r ON r.id = m.restaurantId " +
+           "WHERE m.date BETWEEN :from AND :to " +
+           "ORDER BY m.date, m.id")
+    List<MenuResponseDto> findMenuDtosByDateBetween(@Param("from") LocalDate from,
+                                                    @Param("to") LocalDate to);
 }
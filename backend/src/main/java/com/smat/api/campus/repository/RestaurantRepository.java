@@ -1,14 +1,33 @@
 package com.smat.api.campus.repository;
 
 import com.smat.api.campus.domain.Restaurant;
+import com.smat.api.common.SecondLevelCache;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.List;
+
 @Repository
 public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
     
     /**
-     * 식당명으로 조회
+     * 전체 식당 조회 (조회 결과 캐시)
+     */
+    @Override
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+        @QueryHint(name = "org.hibernate.cacheRegion", value = SecondLevelCache.RESTAURANT_QUERY_REGION)
+    })
+    List<Restaurant> findAll();
+    
+    /**
+     * 식당명으로 조회 (조회 결과 캐시)
      */
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+        @QueryHint(name = "org.hibernate.cacheRegion", value = SecondLevelCache.RESTAURANT_QUERY_REGION)
+    })
     Restaurant findByName(String name);
 }
@@ -1,83 +1,64 @@
 package com.smat.api.campus.service;
 
-import com.smat.api.campus.domain.Menu;
-import com.smat.api.campus.domain.Restaurant;
+import com.smat.api.campus.dto.MenuCacheStatsDto;
 import com.smat.api.campus.dto.MenuResponseDto;
 import com.smat.api.campus.repository.MenuRepository;
-import com.smat.api.campus.repository.RestaurantRepository;
+import com.smat.api.common.DataAggregate;
+import com.smat.api.common.SingleFlight;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class CampusService {
     
     private final MenuRepository menuRepository;
-    private final RestaurantRepository restaurantRepository;
+    private final MenuSnapshotCache menuSnapshotCache;
+    private final SingleFlight singleFlight;
+    private final Clock clock;
     
-    public CampusService(MenuRepository menuRepository, RestaurantRepository restaurantRepository) {
+    public CampusService(MenuRepository menuRepository, MenuSnapshotCache menuSnapshotCache,
+                         SingleFlight singleFlight, Clock clock) {
         this.menuRepository = menuRepository;
-        this.restaurantRepository = restaurantRepository;
+        this.menuSnapshotCache = menuSnapshotCache;
+        this.singleFlight = singleFlight;
+        this.clock = clock;
     }
     
     /**
      * 오늘 날짜의 전체 메뉴를 조회합니다.
+     * 스냅샷 캐시에서 바로 반환하므로 트랜잭션(DB 커넥션)을 새로 열지 않습니다.
      * 
      * @return 오늘의 메뉴 리스트
      */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<MenuResponseDto> getTodayMenus() {
-        LocalDate today = LocalDate.now();
+        LocalDate today = LocalDate.now(clock);
         return getMenusByDate(today);
     }
     
     /**
      * 특정 날짜의 메뉴를 조회합니다.
+     * 스냅샷 캐시 범위의 날짜는 DB 조회 없이 반환되며, 그 밖의 날짜는
+     * 메뉴와 식당명을 한 번의 조인 쿼리로 가져옵니다.
+     * 같은 날짜를 동시에 조회하면 쿼리는 한 번만 실행됩니다.
      * 
      * @param date 조회할 날짜
      * @return 해당 날짜의 메뉴 리스트
      */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<MenuResponseDto> getMenusByDate(LocalDate date) {
-        // 메뉴 조회
-        List<Menu> menus = menuRepository.findByDate(date);
-        
-        // 식당 정보를 캐싱하기 위한 Map
-        Map<Long, String> restaurantCache = new HashMap<>();
-        
-        // DTO로 변환
-        List<MenuResponseDto> response = new ArrayList<>();
-        for (Menu menu : menus) {
-            // 식당 이름 조회 (캐시 활용)
-            String restaurantName = restaurantCache.get(menu.getRestaurantId());
-            if (restaurantName == null) {
-                Restaurant restaurant = restaurantRepository.findById(menu.getRestaurantId())
-                        .orElse(null);
-                if (restaurant != null) {
-                    restaurantName = restaurant.getName();
-                    restaurantCache.put(menu.getRestaurantId(), restaurantName);
-                } else {
-                    restaurantName = "알 수 없는 식당";
-                }
-            }
-            
-            // DTO 생성
-            MenuResponseDto dto = new MenuResponseDto(
-                menu.getId(),
-                menu.getDate(),
-                menu.getTimeType(),
-                menu.getMenuName(),
-                menu.getPrice(),
-                restaurantName
-            );
-            response.add(dto);
+        if (menuSnapshotCache.isCached(date)) {
+            return menuSnapshotCache.getMenus(date);
         }
-        
-        return response;
+        return singleFlight.execute("campus.menusByDate", DataAggregate.MENU, date,
+                () -> menuSnapshotCache.getMenus(date));
     }
     
     /**
@@ -87,36 +68,29 @@ public class CampusService {
      * @param timeType 시간대 (조식/중식/석식)
      * @return 해당 조건의 메뉴 리스트
      */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<MenuResponseDto> getMenusByDateAndTimeType(LocalDate date, String timeType) {
-        List<Menu> menus = menuRepository.findByDateAndTimeType(date, timeType);
-        
-        Map<Long, String> restaurantCache = new HashMap<>();
-        List<MenuResponseDto> response = new ArrayList<>();
-        
-        for (Menu menu : menus) {
-            String restaurantName = restaurantCache.get(menu.getRestaurantId());
-            if (restaurantName == null) {
-                Restaurant restaurant = restaurantRepository.findById(menu.getRestaurantId())
-                        .orElse(null);
-                if (restaurant != null) {
-                    restaurantName = restaurant.getName();
-                    restaurantCache.put(menu.getRestaurantId(), restaurantName);
-                } else {
-                    restaurantName = "알 수 없는 식당";
-                }
-            }
-            
-            MenuResponseDto dto = new MenuResponseDto(
-                menu.getId(),
-                menu.getDate(),
-                menu.getTimeType(),
-                menu.getMenuName(),
-                menu.getPrice(),
-                restaurantName
-            );
-            response.add(dto);
+        if (menuSnapshotCache.isCached(date)) {
+            return menuSnapshotCache.getMenus(date).stream()
+                    .filter(menu -> menu.getTimeType().equals(timeType))
+                    .collect(Collectors.toList());
         }
-        
-        return response;
+        return singleFlight.execute("campus.menusByDateAndTimeType", DataAggregate.MENU, date + ":" + timeType,
+                () -> menuRepository.findMenuDtosByDateAndTimeType(date, timeType));
+    }
+    
+    /**
+     * 메뉴 스냅샷 캐시 통계를 조회합니다.
+     * 
+     * @return 캐시 적중/미적중 횟수와 캐시된 날짜
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public MenuCacheStatsDto getMenuCacheStats() {
+        return new MenuCacheStatsDto(
+            menuSnapshotCache.getHitCount(),
+            menuSnapshotCache.getMissCount(),
+            menuSnapshotCache.getCachedDates(),
+            menuSnapshotCache.getBuiltAt()
+        );
     }
 }
@@ -0,0 +1,158 @@
+package com.smat.api.campus.service;
+
+import com.smat.api.campus.dto.MenuResponseDto;
+import com.smat.api.campus.repository.MenuRepository;
+import com.smat.api.common.DataAggregate;
+import com.smat.api.common.DataVersions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 날짜별 학식 메뉴 스냅샷 캐시
+ * 오늘부터 며칠 뒤까지의 메뉴를 미리 만들어 두고, 조회 시 DB를 거치지 않고 반환합니다.
+ * 스냅샷은 불변 객체이며 메뉴 변경 시 통째로 교체됩니다.
+ */
+@Component
+public class MenuSnapshotCache {
+    
+    private final MenuRepository menuRepository;
+    private final DataVersions dataVersions;
+    private final Clock clock;
+    private final int daysAhead;
+    
+    // 조회 스레드는 락 없이 읽고, 갱신은 새 스냅샷으로 교체
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    
+    public MenuSnapshotCache(MenuRepository menuRepository,
+                             DataVersions dataVersions,
+                             Clock clock,
+                             @Value("${smat.campus.menu-cache.days-ahead:6}") int daysAhead) {
+        this.menuRepository = menuRepository;
+        this.dataVersions = dataVersions;
+        this.clock = clock;
+        this.daysAhead = daysAhead;
+    }
+    
+    /**
+     * 애플리케이션 기동 직후 (초기 데이터 로딩 이후) 스냅샷을 미리 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+    
+    /**
+     * 매일 자정에 날짜 범위를 하루 앞으로 이동
+     */
+    @Scheduled(cron = "${smat.campus.menu-cache.rollover-cron:0 0 0 * * *}")
+    public void rollover() {
+        rebuild();
+    }
+    
+    /**
+     * 특정 날짜의 메뉴 조회
+     * 스냅샷 범위 밖의 날짜는 DB에서 직접 조회합니다.
+     */
+    public List<MenuResponseDto> getMenus(LocalDate date) {
+        List<MenuResponseDto> menus = snapshot.menus.get(date);
+        if (menus != null) {
+            hits.increment();
+            return menus;
+        }
+        misses.increment();
+        return menuRepository.findMenuDtosByDate(date);
+    }
+    
+    /**
+     * 해당 날짜가 스냅샷 범위에 있는지 확인
+     */
+    public boolean isCached(LocalDate date) {
+        return snapshot.menus.containsKey(date);
+    }
+    
+    /**
+     * 오늘부터 daysAhead일 뒤까지의 스냅샷을 새로 만들어 교체
+     */
+    public synchronized void rebuild() {
+        LocalDate from = LocalDate.now(clock);
+        LocalDate to = from.plusDays(daysAhead);
+        
+        Map<LocalDate, List<MenuResponseDto>> grouped = new HashMap<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            grouped.put(date, new ArrayList<>());
+        }
+        for (MenuResponseDto menu : menuRepository.findMenuDtosByDateBetween(from, to)) {
+            grouped.get(menu.getDate()).add(menu);
+        }
+        
+        Map<LocalDate, List<MenuResponseDto>> menus = new HashMap<>();
+        grouped.forEach((date, list) -> menus.put(date, Collections.unmodifiableList(list)));
+        snapshot = new Snapshot(Collections.unmodifiableMap(menus), LocalDateTime.now(clock));
+        dataVersions.bump(DataAggregate.MENU);
+    }
+    
+    /**
+     * 메뉴가 변경된 날짜의 스냅샷만 다시 만들어 교체
+     * 메뉴를 쓰는 쪽에서 저장 후 호출합니다. (메뉴 ETag 버전도 함께 올라감)
+     * 스냅샷을 먼저 교체한 뒤 버전을 올립니다. (새 ETag에 이전 스냅샷이 묶여 캐시되지 않도록)
+     */
+    public synchronized void refresh(LocalDate date) {
+        Snapshot current = snapshot;
+        if (current.menus.containsKey(date)) {
+            Map<LocalDate, List<MenuResponseDto>> menus = new HashMap<>(current.menus);
+            menus.put(date, Collections.unmodifiableList(menuRepository.findMenuDtosByDate(date)));
+            snapshot = new Snapshot(Collections.unmodifiableMap(menus), LocalDateTime.now(clock));
+        }
+        // 스냅샷 범위 밖의 날짜도 DB 조회 결과가 바뀌므로 버전은 항상 올림
+        dataVersions.bump(DataAggregate.MENU);
+    }
+    
+    public long getHitCount() {
+        return hits.sum();
+    }
+    
+    public long getMissCount() {
+        return misses.sum();
+    }
+    
+    public List<LocalDate> getCachedDates() {
+        return new ArrayList<>(new TreeMap<>(snapshot.menus).keySet());
+    }
+    
+    public LocalDateTime getBuiltAt() {
+        return snapshot.builtAt;
+    }
+    
+    /**
+     * 특정 시점의 날짜별 메뉴 (불변)
+     */
+    private static final class Snapshot {
+        
+        static final Snapshot EMPTY = new Snapshot(Collections.emptyMap(), null);
+        
+        final Map<LocalDate, List<MenuResponseDto>> menus;
+        final LocalDateTime builtAt;
+        
+        Snapshot(Map<LocalDate, List<MenuResponseDto>> menus, LocalDateTime builtAt) {
+            this.menus = menus;
+            this.builtAt = builtAt;
+        }
+    }
+}
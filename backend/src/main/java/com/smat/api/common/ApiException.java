@@ -0,0 +1,21 @@
+package com.smat.api.common;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 클라이언트에 그대로 알려도 되는 요청 오류 (GlobalExceptionHandler가 상태 코드와 메시지로 변환)
+ * 이 예외가 아닌 RuntimeException은 내부 오류이므로 500으로 응답합니다.
+ */
+public abstract class ApiException extends RuntimeException {
+    
+    private final HttpStatus status;
+    
+    protected ApiException(HttpStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+    
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
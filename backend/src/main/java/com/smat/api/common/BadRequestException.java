@@ -0,0 +1,13 @@
+package com.smat.api.common;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 잘못된 요청 값 (400)
+ */
+public class BadRequestException extends ApiException {
+    
+    public BadRequestException(String message) {
+        super(HttpStatus.BAD_REQUEST, message);
+    }
+}
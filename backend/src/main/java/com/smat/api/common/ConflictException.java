@@ -0,0 +1,13 @@
+package com.smat.api.common;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 현재 상태에서 처리할 수 없는 요청 (409, 예: 모집 정원 초과)
+ */
+public class ConflictException extends ApiException {
+    
+    public ConflictException(String message) {
+        super(HttpStatus.CONFLICT, message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.smat.api.common;
+
+/**
+ * 버전을 관리하는 데이터 묶음 (ETag 계산 단위)
+ */
+public enum DataAggregate {
+    MENU,        // 학식 메뉴 / 식당
+    LECTURE,     // 강의
+    ENROLLMENT,  // 수강 신청
+    POST         // 게시글
+}
@@ -0,0 +1,74 @@
+package com.smat.api.common;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 데이터 묶음별 버전 카운터
+ * 데이터를 바꾸는 쪽이 bump()를 호출하고, 조회 API는 버전으로 ETag를 만들어
+ * 응답 본문을 만들거나 해시하지 않고도 304 Not Modified 여부를 판단합니다.
+ * 버전은 메모리에만 있으므로 재기동 시점(epoch)을 ETag에 함께 넣어 이전 ETag와 겹치지 않게 합니다.
+ */
+@Component
+public class DataVersions {
+    
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final Map<DataAggregate, AtomicLong> versions = new EnumMap<>(DataAggregate.class);
+    
+    public DataVersions() {
+        for (DataAggregate aggregate : DataAggregate.values()) {
+            versions.put(aggregate, new AtomicLong());
+        }
+    }
+    
+    /**
+     * 현재 버전
+     */
+    public long get(DataAggregate aggregate) {
+        return versions.get(aggregate).get();
+    }
+    
+    /**
+     * 버전 증가
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 증가시킵니다.
+     * (커밋 전에 올리면 새 ETag에 이전 데이터가 묶여 캐시될 수 있음)
+     */
+    public void bump(DataAggregate aggregate) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    versions.get(aggregate).incrementAndGet();
+                }
+            });
+        } else {
+            versions.get(aggregate).incrementAndGet();
+        }
+    }
+    
+    /**
+     * 강한(strong) ETag 생성
+     * DataAggregate는 "이름+버전"으로, 그 밖의 값(날짜, 시각 등 응답을 바꾸는 조건)은 그대로 이어 붙입니다.
+     * 
+     * 예: etag(DataAggregate.MENU, LocalDate.now()) -> "k9x2a1-menu3-2024-03-04"
+     */
+    public String etag(Object... parts) {
+        StringBuilder tag = new StringBuilder("\"").append(epoch);
+        for (Object part : parts) {
+            tag.append('-');
+            if (part instanceof DataAggregate) {
+                DataAggregate aggregate = (DataAggregate) part;
+                tag.append(aggregate.name().toLowerCase(Locale.ROOT)).append(get(aggregate));
+            } else {
+                tag.append(part);
+            }
+        }
+        return tag.append('"').toString();
+    }
+}
@@ -0,0 +1,173 @@
+package com.smat.api.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화된 JSON 응답 캐시
+ * 자주 조회되지만 잘 바뀌지 않는 API의 응답을 UTF-8 JSON byte[]로 (크면 gzip도 함께) 보관하고,
+ * 요청마다 Jackson 직렬화 없이 그대로 응답합니다.
+ * 항목은 ETag (DataVersions 버전)가 바뀌면 다음 요청 때 다시 만들어집니다.
+ * gzip 본문은 바이트가 다른 표현이므로 ETag에 -gzip을 붙여 구분합니다.
+ */
+@Component
+public class JsonResponseCache {
+    
+    // 이보다 작은 응답은 압축 효과가 적어 gzip을 만들지 않음
+    private static final int GZIP_MIN_BYTES = 1024;
+    
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+    
+    private final ObjectMapper objectMapper;
+    
+    // API 이름 -> 마지막으로 만든 응답 (API마다 한 개만 보관)
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    
+    public JsonResponseCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+    
+    /**
+     * 캐시된 JSON으로 응답 (ETag가 다르면 body로 새로 만들어 교체)
+     * 보낼 표현 (gzip/원본)의 ETag로 If-None-Match를 확인하므로, 호출하는 쪽에서 checkNotModified를 따로 부르지 않습니다.
+     * 
+     * @param key API 이름
+     * @param etag 현재 데이터 버전으로 만든 ETag (원본 JSON 기준)
+     * @param request 요청 (If-None-Match, Accept-Encoding 확인용)
+     * @param body 캐시에 없을 때 응답 객체를 만드는 함수
+     * @return JSON byte[] 응답 (변경 없으면 null, 304는 request에 이미 기록됨)
+     */
+    public ResponseEntity<byte[]> respond(String key, String etag, WebRequest request, Supplier<?> body) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.etag.equals(etag)) {
+            hits.increment();
+        } else {
+            misses.increment();
+            entry = serialize(etag, body.get());
+            entries.put(key, entry);
+        }
+        
+        boolean gzip = entry.gzip != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (request.checkNotModified(gzip ? gzipEtag(etag) : etag)) {
+            return null;
+        }
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(entry.gzip);
+        }
+        return response.body(entry.json);
+    }
+    
+    public long getHitCount() {
+        return hits.sum();
+    }
+    
+    public long getMissCount() {
+        return misses.sum();
+    }
+    
+    private Entry serialize(String etag, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            byte[] gzip = json.length >= GZIP_MIN_BYTES ? gzip(json) : null;
+            return new Entry(etag, json, gzip);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("응답을 직렬화할 수 없습니다.", e);
+        }
+    }
+    
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+    
+    /**
+     * "abc" -> "abc-gzip" (W/ 접두사와 따옴표는 유지)
+     */
+    static String gzipEtag(String etag) {
+        if (etag.endsWith("\"")) {
+            return etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\"";
+        }
+        return etag + GZIP_ETAG_SUFFIX;
+    }
+    
+    /**
+     * Accept-Encoding에서 gzip을 받을 수 있는지 (q=0은 거부)
+     * gzip이 따로 없으면 * 의 q 값을 따릅니다.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] params = element.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(params);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        Double effective = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return effective != null && effective > 0;
+    }
+    
+    private static double quality(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (param.length() > 1 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+    
+    /**
+     * 특정 버전의 직렬화된 응답 (불변)
+     */
+    private static final class Entry {
+        
+        final String etag;
+        final byte[] json;
+        final byte[] gzip;
+        
+        Entry(String etag, byte[] json, byte[] gzip) {
+            this.etag = etag;
+            this.json = json;
+            this.gzip = gzip;
+        }
+    }
+}
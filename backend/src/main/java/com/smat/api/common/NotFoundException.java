@@ -0,0 +1,13 @@
+package com.smat.api.common;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 대상 없음 (404)
+ */
+public class NotFoundException extends ApiException {
+    
+    public NotFoundException(String message) {
+        super(HttpStatus.NOT_FOUND, message);
+    }
+}
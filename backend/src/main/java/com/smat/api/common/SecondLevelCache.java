@@ -0,0 +1,80 @@
+package com.smat.api.common;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 (식당/강의 참조 데이터) 영역 이름, 비우기, 통계
+ * 영역별 크기/TTL은 application.conf (Caffeine JCache 설정)에 있습니다.
+ */
+@Component
+public class SecondLevelCache {
+    
+    public static final String RESTAURANT_REGION = "restaurant";
+    public static final String RESTAURANT_QUERY_REGION = "restaurant-queries";
+    public static final String LECTURE_REGION = "lecture";
+    public static final String LECTURE_QUERY_REGION = "lecture-queries";
+    
+    private static final String[] ENTITY_REGIONS = {RESTAURANT_REGION, LECTURE_REGION};
+    private static final String[] QUERY_REGIONS = {RESTAURANT_QUERY_REGION, LECTURE_QUERY_REGION};
+    
+    private final SessionFactory sessionFactory;
+    
+    public SecondLevelCache(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+    
+    /**
+     * 엔티티와 조회 결과 캐시 비우기
+     * JDBC로 직접 INSERT/UPDATE 하면 Hibernate가 변경을 모르므로 직접 호출해야 합니다.
+     */
+    public void evict(Class<?> entityClass, String queryRegion) {
+        sessionFactory.getCache().evictEntityData(entityClass);
+        sessionFactory.getCache().evictQueryRegion(queryRegion);
+    }
+    
+    /**
+     * 영역별 적중/미적중/저장 횟수와 적중률
+     */
+    public Map<String, Object> getStats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", statistics.isStatisticsEnabled());
+        stats.put("secondLevelCache", counts(statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount()));
+        stats.put("queryCache", counts(statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount()));
+        
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String region : ENTITY_REGIONS) {
+            regions.put(region, counts(statistics.getDomainDataRegionStatistics(region)));
+        }
+        for (String region : QUERY_REGIONS) {
+            regions.put(region, counts(statistics.getQueryRegionStatistics(region)));
+        }
+        stats.put("regions", regions);
+        return stats;
+    }
+    
+    private static Map<String, Object> counts(CacheRegionStatistics region) {
+        if (region == null) {
+            return counts(0, 0, 0);
+        }
+        return counts(region.getHitCount(), region.getMissCount(), region.getPutCount());
+    }
+    
+    private static Map<String, Object> counts(long hits, long misses, long puts) {
+        Map<String, Object> counts = new LinkedHashMap<>();
+        counts.put("hits", hits);
+        counts.put("misses", misses);
+        counts.put("puts", puts);
+        counts.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        return counts;
+    }
+}
@@ -0,0 +1,13 @@
+package com.smat.api.common;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 일시적으로 요청을 받을 수 없음 (503, 예: 실시간 알림 구독자 수 상한)
+ */
+public class ServiceUnavailableException extends ApiException {
+    
+    public ServiceUnavailableException(String message) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, message);
+    }
+}
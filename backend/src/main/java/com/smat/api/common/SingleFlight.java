@@ -0,0 +1,126 @@
+package com.smat.api.common;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동일 조회 합치기 (single-flight)
+ * 같은 키의 조회가 이미 실행 중이면 쿼리를 또 보내지 않고, 실행 중인 조회의 CompletableFuture 결과를 함께 받습니다.
+ * (점심시간 직전처럼 같은 화면을 동시에 여는 요청이 몰릴 때 DB 쿼리 수를 줄임)
+ * 키에 데이터 버전을 넣어, 커밋 이후에 들어온 요청이 커밋 전에 시작된 조회 결과를 받지 않도록 합니다.
+ * 결과를 보관하지는 않으므로 (캐시 아님) 조회가 끝나면 다음 요청은 다시 실행합니다.
+ */
+@Component
+public class SingleFlight {
+    
+    private final DataVersions dataVersions;
+    
+    // 키 -> 실행 중인 조회
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    // 조회 이름 -> 실행/합쳐진 횟수
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+    
+    public SingleFlight(DataVersions dataVersions) {
+        this.dataVersions = dataVersions;
+    }
+    
+    /**
+     * 같은 키의 조회가 실행 중이면 그 결과를, 아니면 직접 실행한 결과를 반환
+     * 실행 중인 조회가 예외로 끝나면 기다리던 호출도 같은 예외를 받습니다.
+     * 
+     * @param name 조회 이름 (통계 단위, 예: "campus.menusByDate")
+     * @param aggregate 조회하는 데이터 (버전을 키에 포함)
+     * @param key 조회 조건
+     * @param loader 실제 조회
+     * @return 조회 결과 (동시에 호출한 쪽과 같은 객체를 공유하므로 수정하면 안 됨)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, DataAggregate aggregate, Object key, Supplier<T> loader) {
+        Counters stats = counters.computeIfAbsent(name, n -> new Counters());
+        String flightKey = name + '|' + dataVersions.get(aggregate) + '|' + key;
+        
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(flightKey, flight);
+        if (running != null) {
+            stats.coalesced.increment();
+            return (T) await(running);
+        }
+        
+        stats.executions.increment();
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+    
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+    
+    /**
+     * 조회 이름별 실행 횟수, 합쳐진 (쿼리 없이 결과를 받은) 횟수
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new TreeMap<>();
+        counters.forEach((name, counter) -> {
+            long executions = counter.executions.sum();
+            long coalesced = counter.coalesced.sum();
+            Map<String, Object> values = new TreeMap<>();
+            values.put("executions", executions);
+            values.put("coalesced", coalesced);
+            values.put("coalescedRatio", executions + coalesced == 0 ? 0.0 : (double) coalesced / (executions + coalesced));
+            stats.put(name, values);
+        });
+        return stats;
+    }
+    
+    public long getExecutionCount() {
+        long total = 0;
+        for (Counters counter : counters.values()) {
+            total += counter.executions.sum();
+        }
+        return total;
+    }
+    
+    public long getCoalescedCount() {
+        long total = 0;
+        for (Counters counter : counters.values()) {
+            total += counter.coalesced.sum();
+        }
+        return total;
+    }
+    
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+    
+    private static final class Counters {
+        
+        final LongAdder executions = new LongAdder();
+        final LongAdder coalesced = new LongAdder();
+    }
+}
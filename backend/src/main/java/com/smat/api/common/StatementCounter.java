@@ -0,0 +1,28 @@
+package com.smat.api.common;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 스레드별 SQL 실행 횟수
+ * Hibernate가 SQL을 준비할 때마다 호출되어 현재 스레드의 횟수를 늘립니다. (SQL은 바꾸지 않음)
+ * 요청 시작 시 reset, 끝날 때 get 하면 요청 한 번에 실행된 SQL 수를 알 수 있습니다.
+ * JdbcTemplate 으로 직접 보내는 SQL (대량 가져오기)은 세지 않습니다.
+ */
+public class StatementCounter implements StatementInspector {
+    
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+    
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+    
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+    
+    public static long get() {
+        return COUNT.get()[0];
+    }
+}
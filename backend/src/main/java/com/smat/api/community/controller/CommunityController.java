@@ -1,13 +1,30 @@
 package com.smat.api.community.controller;
 
+import com.smat.api.common.DataAggregate;
+import com.smat.api.common.DataVersions;
+import com.smat.api.common.JsonResponseCache;
 import com.smat.api.community.domain.Category;
+import com.smat.api.community.dto.PostPageResponseDto;
+import com.smat.api.community.dto.PostRequestDto;
 import com.smat.api.community.dto.PostResponseDto;
+import com.smat.api.community.dto.PostSearchResponseDto;
+import com.smat.api.community.dto.PostStatsDto;
+import com.smat.api.community.dto.PostSummaryDto;
 import com.smat.api.community.service.CommunityService;
+import com.smat.api.community.service.PostEventBroadcaster;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -17,20 +34,38 @@ import java.util.List;
 public class CommunityController {
     
     private final CommunityService communityService;
+    private final PostEventBroadcaster postEventBroadcaster;
+    private final DataVersions dataVersions;
+    private final JsonResponseCache jsonResponseCache;
     
-    public CommunityController(CommunityService communityService) {
+    public CommunityController(CommunityService communityService, PostEventBroadcaster postEventBroadcaster,
+                               DataVersions dataVersions, JsonResponseCache jsonResponseCache) {
         this.communityService = communityService;
+        this.postEventBroadcaster = postEventBroadcaster;
+        this.dataVersions = dataVersions;
+        this.jsonResponseCache = jsonResponseCache;
     }
     
     /**
      * 전체 게시글 목록 조회
+     * 작성일 최신순으로 limit개씩 반환하며, 응답의 next 커서로 다음 페이지를 요청합니다.
      * 
-     * @return 전체 게시글 리스트
+     * @param cursor 이전 페이지의 next 값 (첫 페이지는 생략)
+     * @param limit 페이지 크기 (기본 20, 최대 100)
+     * @return 게시글 한 페이지
      */
-    @Operation(summary = "전체 게시글 조회", description = "모든 카테고리의 게시글을 조회합니다.")
+    @Operation(summary = "전체 게시글 조회", description = "모든 카테고리의 게시글을 최신순으로 커서 기반 페이지 단위로 조회합니다. (본문 제외)")
     @GetMapping("/posts")
-    public ResponseEntity<List<PostResponseDto>> getAllPosts() {
-        List<PostResponseDto> posts = communityService.getAllPosts();
+    public ResponseEntity<PostPageResponseDto> getAllPosts(
+            @Parameter(description = "이전 페이지 응답의 next 커서 (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(dataVersions.etag(DataAggregate.POST))) {
+            return null;
+        }
+        PostPageResponseDto posts = communityService.getAllPosts(cursor, limit);
         return ResponseEntity.ok(posts);
     }
     
@@ -38,27 +73,191 @@ public class CommunityController {
      * 카테고리별 게시글 목록 조회
      * 
      * @param category 카테고리 (TAXI/BOOK/TEAM)
-     * @return 해당 카테고리의 게시글 리스트
+     * @param cursor 이전 페이지의 next 값 (첫 페이지는 생략)
+     * @param limit 페이지 크기 (기본 20, 최대 100)
+     * @return 해당 카테고리의 게시글 한 페이지
      */
-    @Operation(summary = "게시글 목록 조회", description = "특정 카테고리의 게시글을 조회합니다.")
+    @Operation(summary = "게시글 목록 조회", description = "특정 카테고리의 게시글을 최신순으로 커서 기반 페이지 단위로 조회합니다. (본문 제외)")
     @GetMapping("/posts/category")
-    public ResponseEntity<List<PostResponseDto>> getPostsByCategory(
+    public ResponseEntity<PostPageResponseDto> getPostsByCategory(
             @Parameter(description = "카테고리 (TAXI/BOOK/TEAM)", example = "TAXI")
-            @RequestParam Category category) {
-        List<PostResponseDto> posts = communityService.getPostsByCategory(category);
+            @RequestParam Category category,
+            @Parameter(description = "이전 페이지 응답의 next 커서 (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(dataVersions.etag(DataAggregate.POST))) {
+            return null;
+        }
+        PostPageResponseDto posts = communityService.getPostsByCategory(category, cursor, limit);
         return ResponseEntity.ok(posts);
     }
     
+    /**
+     * 게시글 검색
+     * 제목/본문에 검색어가 포함된 게시글을 관련도 순으로 반환합니다.
+     * 
+     * @param q 검색어
+     * @param category 카테고리 (생략하면 전체)
+     * @param page 페이지 번호 (0부터)
+     * @param limit 페이지 크기 (기본 20, 최대 100)
+     * @return 검색 결과 한 페이지
+     */
+    @Operation(summary = "게시글 검색", description = "제목/본문으로 게시글을 검색합니다. 제목 일치가 우선이며 같은 점수면 최신순입니다. (본문 제외)")
+    @GetMapping("/search")
+    public ResponseEntity<PostSearchResponseDto> searchPosts(
+            @Parameter(description = "검색어", example = "천안역")
+            @RequestParam String q,
+            @Parameter(description = "카테고리 (TAXI/BOOK/TEAM, 생략하면 전체)", example = "TAXI")
+            @RequestParam(required = false) Category category,
+            @Parameter(description = "페이지 번호 (0부터)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(dataVersions.etag(DataAggregate.POST))) {
+            return null;
+        }
+        PostSearchResponseDto result = communityService.searchPosts(q, category, page, limit);
+        return ResponseEntity.ok(result);
+    }
+    
+    /**
+     * 게시글 상세 조회
+     * 
+     * @param postId 게시글 id
+     * @return 본문을 포함한 게시글
+     */
+    @Operation(summary = "게시글 상세 조회", description = "본문을 포함한 게시글 전체 내용을 조회합니다.")
+    @GetMapping("/posts/{postId}")
+    public ResponseEntity<PostResponseDto> getPost(
+            @Parameter(description = "게시글 id", example = "1")
+            @PathVariable Long postId,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(dataVersions.etag(DataAggregate.POST))) {
+            return null;
+        }
+        PostResponseDto post = communityService.getPost(postId);
+        return ResponseEntity.ok(post);
+    }
+    
     /**
      * 최신 게시글 목록 조회
      * 홈 화면에서 사용할 최신 게시글 5개를 반환합니다.
      * 
      * @return 최신 게시글 리스트 (최대 5개)
      */
-    @Operation(summary = "최신 게시글 조회", description = "작성일 기준 최신 게시글 5개를 조회합니다.")
+    @Operation(summary = "최신 게시글 조회", description = "작성일 기준 최신 게시글 5개를 조회합니다. (본문 제외)")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = PostSummaryDto.class))))
     @GetMapping("/recent")
-    public ResponseEntity<List<PostResponseDto>> getRecentPosts() {
-        List<PostResponseDto> posts = communityService.getRecentPosts();
-        return ResponseEntity.ok(posts);
+    public ResponseEntity<byte[]> getRecentPosts(WebRequest webRequest) {
+        String etag = dataVersions.etag(DataAggregate.POST);
+        // 직렬화된 JSON을 버전별로 캐시해 그대로 응답 (If-None-Match 확인 포함)
+        return jsonResponseCache.respond("community.recent", etag, webRequest, communityService::getRecentPosts);
+    }
+    
+    /**
+     * 게시글 실시간 이벤트 구독 (Server-Sent Events)
+     * 목록을 주기적으로 다시 조회하는 대신 이 연결로 변경 사항을 받습니다.
+     * 이벤트 이름: created, updated, deleted, joined, left, filled (data는 PostEventDto JSON)
+     * 
+     * @return SSE 연결
+     */
+    @Operation(summary = "게시글 이벤트 구독", description = "게시글 작성/수정/삭제, 모집글 참여/나가기/마감 이벤트를 SSE로 받습니다. 연결이 끊기면 다시 연결하세요.")
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeEvents() {
+        return postEventBroadcaster.subscribe();
+    }
+    
+    /**
+     * 게시판 통계 조회
+     * 카테고리 탭에 표시할 게시글 수와 모집 중인 글 수를 반환합니다.
+     * 
+     * @return 게시판 통계
+     */
+    @Operation(summary = "게시판 통계 조회", description = "전체/카테고리별 게시글 수와 정원이 남은 모집글 수를 조회합니다.")
+    @GetMapping("/stats")
+    public ResponseEntity<PostStatsDto> getStats(WebRequest webRequest) {
+        if (webRequest.checkNotModified(dataVersions.etag(DataAggregate.POST))) {
+            return null;
+        }
+        PostStatsDto stats = communityService.getStats();
+        return ResponseEntity.ok(stats);
+    }
+    
+    /**
+     * 게시글 작성
+     * 
+     * @param request 작성할 게시글 정보
+     * @return 작성된 게시글
+     */
+    @Operation(summary = "게시글 작성", description = "새 게시글을 작성합니다. 모집글은 maxPeople을 지정하면 작성자 1명으로 시작합니다.")
+    @PostMapping("/posts")
+    public ResponseEntity<PostResponseDto> createPost(@RequestBody PostRequestDto request) {
+        PostResponseDto post = communityService.createPost(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(post);
+    }
+    
+    /**
+     * 게시글 수정
+     * 
+     * @param postId 게시글 id
+     * @param request 수정할 내용 (전달된 항목만 변경)
+     * @return 수정된 게시글
+     */
+    @Operation(summary = "게시글 수정", description = "게시글의 제목, 내용, 가격, 최대 모집 인원을 수정합니다.")
+    @PutMapping("/posts/{postId}")
+    public ResponseEntity<PostResponseDto> updatePost(
+            @Parameter(description = "게시글 id", example = "1")
+            @PathVariable Long postId,
+            @RequestBody PostRequestDto request) {
+        PostResponseDto post = communityService.updatePost(postId, request);
+        return ResponseEntity.ok(post);
+    }
+    
+    /**
+     * 게시글 삭제
+     * 
+     * @param postId 게시글 id
+     */
+    @Operation(summary = "게시글 삭제", description = "게시글을 삭제합니다.")
+    @DeleteMapping("/posts/{postId}")
+    public ResponseEntity<Void> deletePost(
+            @Parameter(description = "게시글 id", example = "1")
+            @PathVariable Long postId) {
+        communityService.deletePost(postId);
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * 모집글 참여
+     * 
+     * @param postId 게시글 id
+     * @return 참여 후 게시글 (정원이 찼으면 409)
+     */
+    @Operation(summary = "모집글 참여", description = "택시/팀원 모집글에 참여합니다. 정원이 찼으면 409를 반환합니다.")
+    @PostMapping("/posts/{postId}/join")
+    public ResponseEntity<PostResponseDto> joinPost(
+            @Parameter(description = "게시글 id", example = "5")
+            @PathVariable Long postId) {
+        PostResponseDto post = communityService.joinPost(postId);
+        return ResponseEntity.ok(post);
+    }
+    
+    /**
+     * 모집글 나가기
+     * 
+     * @param postId 게시글 id
+     * @return 나간 후 게시글
+     */
+    @Operation(summary = "모집글 나가기", description = "참여한 택시/팀원 모집글에서 나갑니다.")
+    @PostMapping("/posts/{postId}/leave")
+    public ResponseEntity<PostResponseDto> leavePost(
+            @Parameter(description = "게시글 id", example = "5")
+            @PathVariable Long postId) {
+        PostResponseDto post = communityService.leavePost(postId);
+        return ResponseEntity.ok(post);
     }
 }
@@ -1,10 +1,14 @@
 package com.smat.api.community.domain;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import javax.persistence.*;
 import java.time.LocalDateTime;
 
+// 변경된 컬럼만 UPDATE (수정이 참여/나가기의 current_people 변경을 덮어쓰지 않도록)
 @Entity
 @Table(name = "post")
+@DynamicUpdate
 public class Post {
     
     @Id
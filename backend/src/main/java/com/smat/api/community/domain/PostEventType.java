@@ -0,0 +1,10 @@
+package com.smat.api.community.domain;
+
+public enum PostEventType {
+    CREATED,  // 새 게시글
+    UPDATED,  // 게시글 수정
+    DELETED,  // 게시글 삭제
+    JOINED,   // 모집글 참여
+    LEFT,     // 모집글 나가기
+    FILLED    // 모집 인원 마감
+}
@@ -0,0 +1,49 @@
+package com.smat.api.community.dto;
+
+import com.smat.api.community.domain.Category;
+
+/**
+ * 카테고리별 게시글 수 (openCount: 정원이 남은 모집글 수)
+ */
+public class PostCategoryCountDto {
+    
+    private Category category;
+    private long postCount;
+    private long openCount;
+    
+    // 기본 생성자
+    public PostCategoryCountDto() {
+    }
+    
+    // 생성자
+    public PostCategoryCountDto(Category category, long postCount, long openCount) {
+        this.category = category;
+        this.postCount = postCount;
+        this.openCount = openCount;
+    }
+    
+    // Getter & Setter
+    public Category getCategory() {
+        return category;
+    }
+    
+    public void setCategory(Category category) {
+        this.category = category;
+    }
+    
+    public long getPostCount() {
+        return postCount;
+    }
+    
+    public void setPostCount(long postCount) {
+        this.postCount = postCount;
+    }
+    
+    public long getOpenCount() {
+        return openCount;
+    }
+    
+    public void setOpenCount(long openCount) {
+        this.openCount = openCount;
+    }
+}
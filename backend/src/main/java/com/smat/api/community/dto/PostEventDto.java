@@ -0,0 +1,51 @@
+package com.smat.api.community.dto;
+
+import com.smat.api.community.domain.PostEventType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 실시간 이벤트 (SSE로 전송)
+ */
+public class PostEventDto {
+    
+    private PostEventType type;
+    private PostSummaryDto post;
+    private LocalDateTime occurredAt;
+    
+    // 기본 생성자
+    public PostEventDto() {
+    }
+    
+    // 생성자
+    public PostEventDto(PostEventType type, PostSummaryDto post, LocalDateTime occurredAt) {
+        this.type = type;
+        this.post = post;
+        this.occurredAt = occurredAt;
+    }
+    
+    // Getter & Setter
+    public PostEventType getType() {
+        return type;
+    }
+    
+    public void setType(PostEventType type) {
+        this.type = type;
+    }
+    
+    public PostSummaryDto getPost() {
+        return post;
+    }
+    
+    public void setPost(PostSummaryDto post) {
+        this.post = post;
+    }
+    
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+    
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,50 @@
+package com.smat.api.community.dto;
+
+import java.util.List;
+
+/**
+ * 게시글 목록 한 페이지
+ * next 는 다음 페이지를 요청할 때 그대로 넘기는 커서이며, 마지막 페이지면 null 입니다.
+ */
+public class PostPageResponseDto {
+    
+    private List<PostSummaryDto> posts;
+    private String next;
+    private boolean hasNext;
+    
+    // 기본 생성자
+    public PostPageResponseDto() {
+    }
+    
+    // 생성자
+    public PostPageResponseDto(List<PostSummaryDto> posts, String next, boolean hasNext) {
+        this.posts = posts;
+        this.next = next;
+        this.hasNext = hasNext;
+    }
+    
+    // Getter & Setter
+    public List<PostSummaryDto> getPosts() {
+        return posts;
+    }
+    
+    public void setPosts(List<PostSummaryDto> posts) {
+        this.posts = posts;
+    }
+    
+    public String getNext() {
+        return next;
+    }
+    
+    public void setNext(String next) {
+        this.next = next;
+    }
+    
+    public boolean isHasNext() {
+        return hasNext;
+    }
+    
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,76 @@
+package com.smat.api.community.dto;
+
+import com.smat.api.community.domain.Category;
+
+public class PostRequestDto {
+    
+    private Category category;
+    private String title;
+    private String content;
+    private String writer;
+    private Integer price;
+    private Integer maxPeople;
+    
+    // 기본 생성자
+    public PostRequestDto() {
+    }
+    
+    // 생성자
+    public PostRequestDto(Category category, String title, String content, String writer, Integer price, Integer maxPeople) {
+        this.category = category;
+        this.title = title;
+        this.content = content;
+        this.writer = writer;
+        this.price = price;
+        this.maxPeople = maxPeople;
+    }
+    
+    // Getter & Setter
+    public Category getCategory() {
+        return category;
+    }
+    
+    public void setCategory(Category category) {
+        this.category = category;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public String getContent() {
+        return content;
+    }
+    
+    public void setContent(String content) {
+        this.content = content;
+    }
+    
+    public String getWriter() {
+        return writer;
+    }
+    
+    public void setWriter(String writer) {
+        this.writer = writer;
+    }
+    
+    public Integer getPrice() {
+        return price;
+    }
+    
+    public void setPrice(Integer price) {
+        this.price = price;
+    }
+    
+    public Integer getMaxPeople() {
+        return maxPeople;
+    }
+    
+    public void setMaxPeople(Integer maxPeople) {
+        this.maxPeople = maxPeople;
+    }
+}
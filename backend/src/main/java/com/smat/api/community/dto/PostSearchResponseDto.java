@@ -0,0 +1,69 @@
+package com.smat.api.community.dto;
+
+import java.util.List;
+
+/**
+ * 게시글 검색 결과 한 페이지
+ */
+public class PostSearchResponseDto {
+    
+    private List<PostSummaryDto> posts;
+    private int total;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    
+    // 기본 생성자
+    public PostSearchResponseDto() {
+    }
+    
+    // 생성자
+    public PostSearchResponseDto(List<PostSummaryDto> posts, int total, int page, int size, boolean hasNext) {
+        this.posts = posts;
+        this.total = total;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+    
+    // Getter & Setter
+    public List<PostSummaryDto> getPosts() {
+        return posts;
+    }
+    
+    public void setPosts(List<PostSummaryDto> posts) {
+        this.posts = posts;
+    }
+    
+    public int getTotal() {
+        return total;
+    }
+    
+    public void setTotal(int total) {
+        this.total = total;
+    }
+    
+    public int getPage() {
+        return page;
+    }
+    
+    public void setPage(int page) {
+        this.page = page;
+    }
+    
+    public int getSize() {
+        return size;
+    }
+    
+    public void setSize(int size) {
+        this.size = size;
+    }
+    
+    public boolean isHasNext() {
+        return hasNext;
+    }
+    
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,49 @@
+package com.smat.api.community.dto;
+
+import java.util.List;
+
+/**
+ * 게시판 통계 (전체 게시글 수, 모집 중인 글 수, 카테고리별 수)
+ */
+public class PostStatsDto {
+    
+    private long totalPosts;
+    private long openRecruitments;
+    private List<PostCategoryCountDto> categories;
+    
+    // 기본 생성자
+    public PostStatsDto() {
+    }
+    
+    // 생성자
+    public PostStatsDto(long totalPosts, long openRecruitments, List<PostCategoryCountDto> categories) {
+        this.totalPosts = totalPosts;
+        this.openRecruitments = openRecruitments;
+        this.categories = categories;
+    }
+    
+    // Getter & Setter
+    public long getTotalPosts() {
+        return totalPosts;
+    }
+    
+    public void setTotalPosts(long totalPosts) {
+        this.totalPosts = totalPosts;
+    }
+    
+    public long getOpenRecruitments() {
+        return openRecruitments;
+    }
+    
+    public void setOpenRecruitments(long openRecruitments) {
+        this.openRecruitments = openRecruitments;
+    }
+    
+    public List<PostCategoryCountDto> getCategories() {
+        return categories;
+    }
+    
+    public void setCategories(List<PostCategoryCountDto> categories) {
+        this.categories = categories;
+    }
+}
@@ -2,15 +2,29 @@ package com.smat.api.community.repository;
 
 import com.smat.api.community.domain.Category;
 import com.smat.api.community.domain.Post;
+import com.smat.api.community.dto.PostCategoryCountDto;
+import com.smat.api.community.dto.PostSummaryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
     
+    /**
+     * 목록 조회용 요약 프로젝션 (content 컬럼은 조회하지 않음)
+     */
+    String SUMMARY = "new com.smat.api.community.dto.PostSummaryDto(" +
+            "p.id, p.category, p.title, p.writer, p.price, p.currentPeople, p.maxPeople, p.createdDate)";
+    
     /**
      * 카테고리별 게시글 조회
      */
@@ -22,8 +36,106 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     List<Post> findByWriter(String writer);
     
     /**
-     * 최신 게시글 조회 (작성일 기준 내림차순, 상위 N개)
+     * id 순으로 게시글을 나눠 읽기 (검색 색인 생성용, 본문 포함)
+     */
+    List<Post> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    /**
+     * 최신 게시글 요약 조회 (작성일, id 내림차순, 상위 N개)
+     */
+    @Query("SELECT " + SUMMARY + " FROM Post p ORDER BY p.createdDate DESC, p.id DESC")
+    List<PostSummaryDto> findRecentSummaries(Pageable pageable);
+    
+    /**
+     * 게시글 목록 첫 페이지 (작성일, id 내림차순)
+     */
+    @Query("SELECT " + SUMMARY + " FROM Post p ORDER BY p.createdDate DESC, p.id DESC")
+    List<PostSummaryDto> findFirstPage(Pageable pageable);
+    
+    /**
+     * 게시글 목록 다음 페이지 (커서 이후)
+     */
+    @Query("SELECT " + SUMMARY + " FROM Post p " +
+           "WHERE p.createdDate <= :createdDate " +
+           "AND (p.createdDate < :createdDate OR p.id < :id) " +
+           "ORDER BY p.createdDate DESC, p.id DESC")
+    List<PostSummaryDto> findPageAfter(@Param("createdDate") LocalDateTime createdDate,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+    
+    /**
+     * 카테고리별 게시글 목록 첫 페이지 (작성일, id 내림차순)
+     */
+    @Query("SELECT " + SUMMARY + " FROM Post p WHERE p.category = :category ORDER BY p.createdDate DESC, p.id DESC")
+    List<PostSummaryDto> findFirstPageByCategory(@Param("category") Category category, Pageable pageable);
+    
+    /**
+     * 카테고리별 게시글 목록 다음 페이지 (커서 이후)
+     */
+    @Query("SELECT " + SUMMARY + " FROM Post p " +
+           "WHERE p.category = :category " +
+           "AND p.createdDate <= :createdDate " +
+           "AND (p.createdDate < :createdDate OR p.id < :id) " +
+           "ORDER BY p.createdDate DESC, p.id DESC")
+    List<PostSummaryDto> findPageAfterByCategory(@Param("category") Category category,
+                                                 @Param("createdDate") LocalDateTime createdDate,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+    
+    /**
+     * 제목/본문 LIKE 검색 (검색 색인이 준비되기 전 대체 경로)
+     * 제목에 검색어가 있는 글이 먼저, 같으면 최신 글이 먼저 옵니다.
+     * 
+     * @param pattern 소문자로 바꾸고 와일드카드를 이스케이프한 "%검색어%"
+     * @param category 카테고리 필터 (null이면 전체)
+     */
+    @Query(value = "SELECT " + SUMMARY + " FROM Post p " +
+                   "WHERE (:category IS NULL OR p.category = :category) " +
+                   "AND (LOWER(p.title) LIKE :pattern ESCAPE '!' OR LOWER(p.content) LIKE :pattern ESCAPE '!') " +
+                   "ORDER BY CASE WHEN LOWER(p.title) LIKE :pattern ESCAPE '!' THEN 0 ELSE 1 END, p.id DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p " +
+                        "WHERE (:category IS NULL OR p.category = :category) " +
+                        "AND (LOWER(p.title) LIKE :pattern ESCAPE '!' OR LOWER(p.content) LIKE :pattern ESCAPE '!')")
+    Page<PostSummaryDto> searchSummaries(@Param("pattern") String pattern,
+                                         @Param("category") Category category,
+                                         Pageable pageable);
+    
+    /**
+     * 카테고리별 게시글 수와 모집 중(정원 미달)인 글 수 (GROUP BY 한 번)
+     */
+    @Query("SELECT new com.smat.api.community.dto.PostCategoryCountDto(p.category, COUNT(p), " +
+           "SUM(CASE WHEN p.maxPeople IS NOT NULL AND p.currentPeople < p.maxPeople THEN 1L ELSE 0L END)) " +
+           "FROM Post p GROUP BY p.category")
+    List<PostCategoryCountDto> countByCategory();
+    
+    /**
+     * 모집 인원 1명 증가 (정원이 남아 있을 때만, 원자적 조건부 UPDATE)
+     * 
+     * @return 변경된 행 수 (0이면 정원 초과 또는 모집글이 아님)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Post p SET p.currentPeople = p.currentPeople + 1 " +
+           "WHERE p.id = :id AND p.category IN :categories AND p.currentPeople < p.maxPeople")
+    int incrementCurrentPeople(@Param("id") Long id, @Param("categories") Collection<Category> categories);
+    
+    /**
+     * 모집 인원 1명 감소 (작성자 1명은 남김, 원자적 조건부 UPDATE)
+     * 
+     * @return 변경된 행 수 (0이면 참여자가 없거나 모집글이 아님)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Post p SET p.currentPeople = p.currentPeople - 1 " +
+           "WHERE p.id = :id AND p.category IN :categories AND p.currentPeople > 1")
+    int decrementCurrentPeople(@Param("id") Long id, @Param("categories") Collection<Category> categories);
+    
+    /**
+     * 최대 모집 인원 변경 (현재 인원 이상일 때만, 원자적 조건부 UPDATE)
+     * 확인과 변경이 한 문장이므로 동시에 참여가 일어나도 정원이 현재 인원보다 작아지지 않습니다.
+     * 
+     * @return 변경된 행 수 (0이면 현재 인원이 더 많거나 모집글이 아님)
      */
-    @Query("SELECT p FROM Post p ORDER BY p.createdDate DESC")
-    List<Post> findRecentPosts();
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Post p SET p.maxPeople = :maxPeople " +
+           "WHERE p.id = :id AND p.maxPeople IS NOT NULL AND p.currentPeople <= :maxPeople")
+    int updateMaxPeople(@Param("id") Long id, @Param("maxPeople") Integer maxPeople);
 }
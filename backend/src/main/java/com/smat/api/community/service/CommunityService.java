@@ -1,82 +1,494 @@
 package com.smat.api.community.service;
 
+import com.smat.api.common.BadRequestException;
+import com.smat.api.common.ConflictException;
+import com.smat.api.common.DataAggregate;
+import com.smat.api.common.DataVersions;
+import com.smat.api.common.NotFoundException;
+import com.smat.api.common.SingleFlight;
 import com.smat.api.community.domain.Category;
 import com.smat.api.community.domain.Post;
+import com.smat.api.community.domain.PostEventType;
+import com.smat.api.community.dto.PostPageResponseDto;
+import com.smat.api.community.dto.PostRequestDto;
 import com.smat.api.community.dto.PostResponseDto;
+import com.smat.api.community.dto.PostSearchResponseDto;
+import com.smat.api.community.dto.PostStatsDto;
+import com.smat.api.community.dto.PostSummaryDto;
 import com.smat.api.community.repository.PostRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Set;
 
 @Service
 @Transactional(readOnly = true)
 public class CommunityService {
     
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    
+    // 참여/나가기가 가능한 모집글 카테고리
+    private static final Set<Category> RECRUITMENT_CATEGORIES = EnumSet.of(Category.TAXI, Category.TEAM);
+    
     private final PostRepository postRepository;
+    private final RecentPostBuffer recentPostBuffer;
+    private final PostSearchIndex postSearchIndex;
+    private final PostCounters postCounters;
+    private final PostEventBroadcaster postEventBroadcaster;
+    private final DataVersions dataVersions;
+    private final SingleFlight singleFlight;
     
-    public CommunityService(PostRepository postRepository) {
+    public CommunityService(PostRepository postRepository, RecentPostBuffer recentPostBuffer,
+                            PostSearchIndex postSearchIndex, PostCounters postCounters,
+                            PostEventBroadcaster postEventBroadcaster, DataVersions dataVersions,
+                            SingleFlight singleFlight) {
         this.postRepository = postRepository;
+        this.recentPostBuffer = recentPostBuffer;
+        this.postSearchIndex = postSearchIndex;
+        this.postCounters = postCounters;
+        this.postEventBroadcaster = postEventBroadcaster;
+        this.dataVersions = dataVersions;
+        this.singleFlight = singleFlight;
     }
     
     /**
-     * 전체 게시글 조회
+     * 전체 게시글 조회 (커서 기반 페이지네이션)
+     * 같은 페이지를 동시에 조회하면 쿼리는 한 번만 실행됩니다.
      * 
-     * @return 전체 게시글 리스트
+     * @param cursor 이전 페이지에서 받은 커서 (첫 페이지는 null)
+     * @param limit 페이지 크기
+     * @return 게시글 한 페이지
      */
-    public List<PostResponseDto> getAllPosts() {
-        List<Post> posts = postRepository.findAll();
-        return convertToDto(posts);
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public PostPageResponseDto getAllPosts(String cursor, int limit) {
+        int size = normalizeLimit(limit);
+        return singleFlight.execute("community.posts", DataAggregate.POST, cursor + ":" + size,
+                () -> loadPosts(cursor, size));
+    }
+    
+    private PostPageResponseDto loadPosts(String cursor, int size) {
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        Pageable pageable = PageRequest.of(0, size + 1);
+        
+        List<PostSummaryDto> posts;
+        if (cursor == null || cursor.isEmpty()) {
+            posts = postRepository.findFirstPage(pageable);
+        } else {
+            PostCursor after = PostCursor.decode(cursor);
+            posts = postRepository.findPageAfter(after.getCreatedDate(), after.getId(), pageable);
+        }
+        return toPage(posts, size);
     }
     
     /**
-     * 카테고리별 게시글 조회
+     * 카테고리별 게시글 조회 (커서 기반 페이지네이션)
      * 
      * @param category 카테고리 (TAXI/BOOK/TEAM)
-     * @return 해당 카테고리의 게시글 리스트
+     * @param cursor 이전 페이지에서 받은 커서 (첫 페이지는 null)
+     * @param limit 페이지 크기
+     * @return 해당 카테고리의 게시글 한 페이지
      */
-    public List<PostResponseDto> getPostsByCategory(Category category) {
-        List<Post> posts = postRepository.findByCategory(category);
-        return convertToDto(posts);
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public PostPageResponseDto getPostsByCategory(Category category, String cursor, int limit) {
+        int size = normalizeLimit(limit);
+        return singleFlight.execute("community.postsByCategory", DataAggregate.POST, category + ":" + cursor + ":" + size,
+                () -> loadPostsByCategory(category, cursor, size));
+    }
+    
+    private PostPageResponseDto loadPostsByCategory(Category category, String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size + 1);
+        
+        List<PostSummaryDto> posts;
+        if (cursor == null || cursor.isEmpty()) {
+            posts = postRepository.findFirstPageByCategory(category, pageable);
+        } else {
+            PostCursor after = PostCursor.decode(cursor);
+            posts = postRepository.findPageAfterByCategory(category, after.getCreatedDate(), after.getId(), pageable);
+        }
+        return toPage(posts, size);
+    }
+    
+    /**
+     * 게시글 검색 (제목/본문)
+     * 메모리 역색인에서 찾으므로 LIKE 검색처럼 테이블 전체를 읽지 않습니다.
+     * 제목에 검색어가 있는 글이 먼저, 같은 점수면 최신 글이 먼저 옵니다.
+     * 색인이 준비되기 전 (기동 직후 색인 중)에는 DB LIKE 검색으로 대신합니다.
+     * 
+     * @param query 검색어
+     * @param category 카테고리 필터 (null이면 전체)
+     * @param page 페이지 번호 (0부터)
+     * @param limit 페이지 크기
+     * @return 검색 결과 한 페이지
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public PostSearchResponseDto searchPosts(String query, Category category, int page, int limit) {
+        if (isBlank(query)) {
+            throw new BadRequestException("검색어를 입력해주세요.");
+        }
+        if (page < 0) {
+            throw new BadRequestException("페이지 번호는 0 이상이어야 합니다.");
+        }
+        
+        int size = normalizeLimit(limit);
+        if (!postSearchIndex.isReady()) {
+            Page<PostSummaryDto> result = postRepository.searchSummaries(
+                    likePattern(query), category, PageRequest.of(page, size));
+            return new PostSearchResponseDto(result.getContent(), Math.toIntExact(result.getTotalElements()),
+                    page, size, result.hasNext());
+        }
+        
+        long offset = (long) page * size;
+        PostSearchIndex.SearchResult result = postSearchIndex.search(
+                query, category, (int) Math.min(offset, Integer.MAX_VALUE), size);
+        boolean hasNext = offset + result.getPosts().size() < result.getTotal();
+        return new PostSearchResponseDto(result.getPosts(), result.getTotal(), page, size, hasNext);
+    }
+    
+    /**
+     * LIKE 검색 패턴 (대소문자 무시, 와일드카드 문자는 그대로 검색)
+     */
+    private static String likePattern(String query) {
+        String escaped = query.trim().toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+    
+    private int normalizeLimit(int limit) {
+        if (limit < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+    
+    /**
+     * size+1개 조회 결과를 한 페이지로 자르고 다음 커서를 만듦
+     */
+    private PostPageResponseDto toPage(List<PostSummaryDto> posts, int size) {
+        boolean hasNext = posts.size() > size;
+        List<PostSummaryDto> page = hasNext ? new ArrayList<>(posts.subList(0, size)) : posts;
+        
+        String next = null;
+        if (hasNext) {
+            PostSummaryDto last = page.get(page.size() - 1);
+            next = new PostCursor(last.getCreatedDate(), last.getId()).encode();
+        }
+        return new PostPageResponseDto(page, next, hasNext);
     }
     
     /**
      * 최신 게시글 조회 (상위 5개)
+     * 링 버퍼에 보관된 최신 게시글을 DB 조회 없이 반환합니다.
+     * 버퍼가 채워지기 전에는 DB에서 바로 조회합니다.
      * 
      * @return 최신 게시글 리스트 (최대 5개)
      */
-    public List<PostResponseDto> getRecentPosts() {
-        List<Post> posts = postRepository.findRecentPosts();
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<PostSummaryDto> getRecentPosts() {
+        if (!recentPostBuffer.isSeeded()) {
+            return postRepository.findRecentSummaries(PageRequest.of(0, recentPostBuffer.getCapacity()));
+        }
+        return recentPostBuffer.getRecent();
+    }
+    
+    /**
+     * 최신 게시글 버퍼를 DB에서 채움 (기동 직후, 게시글 삭제 후)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpRecentPosts() {
+        Pageable top = PageRequest.of(0, recentPostBuffer.getCapacity());
+        recentPostBuffer.seed(postRepository.findRecentSummaries(top));
+    }
+    
+    /**
+     * 게시판 통계 (카테고리별 게시글 수, 모집 중인 글 수)
+     * 쓰기 때마다 갱신되는 카운터를 읽으므로 DB를 조회하지 않습니다.
+     * 카운터가 채워지기 전에는 DB 집계로 바로 계산합니다.
+     * 
+     * @return 게시판 통계
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public PostStatsDto getStats() {
+        if (!postCounters.isSeeded()) {
+            return postCounters.loadStats();
+        }
+        return postCounters.getStats();
+    }
+    
+    /**
+     * 게시글 작성
+     * 
+     * @param request 작성할 게시글 정보
+     * @return 작성된 게시글
+     */
+    @Transactional
+    public PostResponseDto createPost(PostRequestDto request) {
+        if (request.getCategory() == null || isBlank(request.getTitle())
+                || isBlank(request.getContent()) || isBlank(request.getWriter())) {
+            throw new BadRequestException("카테고리, 제목, 내용, 작성자는 필수입니다.");
+        }
+        if (request.getMaxPeople() != null && request.getMaxPeople() < 1) {
+            throw new BadRequestException("최대 모집 인원은 1명 이상이어야 합니다.");
+        }
+        
+        // 모집글은 작성자 본인을 1명으로 시작
+        Integer currentPeople = request.getMaxPeople() != null ? 1 : null;
+        Post post = postRepository.save(new Post(
+            null,
+            request.getCategory(),
+            request.getTitle(),
+            request.getContent(),
+            request.getWriter(),
+            request.getPrice(),
+            currentPeople,
+            request.getMaxPeople(),
+            LocalDateTime.now()
+        ));
+        
+        PostSummaryDto summary = convertToSummary(post);
+        afterCommit(() -> {
+            recentPostBuffer.push(summary);
+            postSearchIndex.add(post);
+        });
+        // 카운터는 스스로 커밋 후에 반영 (커밋 진행 여부를 seed와 맞추기 위해 트랜잭션 안에서 등록)
+        postCounters.postCreated(post.getCategory(), PostCounters.isOpen(post.getCurrentPeople(), post.getMaxPeople()));
+        postEventBroadcaster.publish(PostEventType.CREATED, summary);
+        dataVersions.bump(DataAggregate.POST);
+        return convertToDto(post);
+    }
+    
+    /**
+     * 게시글 수정
+     * 전달된 항목만 변경합니다. (카테고리, 작성자, 현재 인원은 변경 불가)
+     * 최대 인원은 조건부 UPDATE로 바꾸므로 동시에 참여가 일어나도 현재 인원보다 작아지지 않습니다.
+     * 
+     * @param postId 게시글 id
+     * @param request 수정할 내용
+     * @return 수정된 게시글
+     */
+    @Transactional
+    public PostResponseDto updatePost(Long postId, PostRequestDto request) {
+        if (request.getTitle() != null && isBlank(request.getTitle())) {
+            throw new BadRequestException("제목은 비워둘 수 없습니다.");
+        }
+        if (request.getContent() != null && isBlank(request.getContent())) {
+            throw new BadRequestException("내용은 비워둘 수 없습니다.");
+        }
         
-        // 상위 5개만 선택
-        List<Post> recentPosts = posts.stream()
-                .limit(5)
-                .collect(Collectors.toList());
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다: " + postId));
+        Integer previousMaxPeople = post.getMaxPeople();
         
-        return convertToDto(recentPosts);
+        if (request.getMaxPeople() != null) {
+            if (previousMaxPeople == null) {
+                throw new BadRequestException("모집글이 아닌 게시글은 최대 인원을 지정할 수 없습니다.");
+            }
+            if (postRepository.updateMaxPeople(postId, request.getMaxPeople()) == 0) {
+                throw new ConflictException("최대 모집 인원은 현재 인원보다 작을 수 없습니다.");
+            }
+            // 조건부 UPDATE가 영속성 컨텍스트를 비웠으므로 최신 인원으로 다시 읽음
+            post = postRepository.findById(postId)
+                    .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다: " + postId));
+        }
+        if (request.getTitle() != null) {
+            post.setTitle(request.getTitle());
+        }
+        if (request.getContent() != null) {
+            post.setContent(request.getContent());
+        }
+        if (request.getPrice() != null) {
+            post.setPrice(request.getPrice());
+        }
+        postRepository.flush();
+        
+        Post updated = post;
+        PostSummaryDto summary = convertToSummary(updated);
+        afterCommit(() -> {
+            recentPostBuffer.replace(summary);
+            postSearchIndex.add(updated);
+        });
+        postCounters.openChanged(updated.getCategory(),
+                PostCounters.isOpen(updated.getCurrentPeople(), previousMaxPeople),
+                PostCounters.isOpen(updated.getCurrentPeople(), updated.getMaxPeople()));
+        postEventBroadcaster.publish(PostEventType.UPDATED, summary);
+        dataVersions.bump(DataAggregate.POST);
+        return convertToDto(post);
     }
     
     /**
-     * Post 리스트를 DTO로 변환
+     * 게시글 삭제
+     * 
+     * @param postId 게시글 id
      */
-    private List<PostResponseDto> convertToDto(List<Post> posts) {
-        List<PostResponseDto> response = new ArrayList<>();
-        for (Post post : posts) {
-            PostResponseDto dto = new PostResponseDto(
-                post.getId(),
-                post.getCategory(),
-                post.getTitle(),
-                post.getContent(),
-                post.getWriter(),
-                post.getPrice(),
-                post.getCurrentPeople(),
-                post.getMaxPeople(),
-                post.getCreatedDate()
-            );
-            response.add(dto);
+    @Transactional
+    public void deletePost(Long postId) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다: " + postId));
+        postRepository.delete(post);
+        postRepository.flush();
+        
+        postCounters.postDeleted(post.getCategory(), PostCounters.isOpen(post.getCurrentPeople(), post.getMaxPeople()));
+        afterCommit(() -> {
+            postSearchIndex.remove(postId);
+            recentPostBuffer.remove(postId);
+            // 비게 된 자리를 DB의 다음 최신 게시글로 채움
+            warmUpRecentPosts();
+        });
+        postEventBroadcaster.publish(PostEventType.DELETED, convertToSummary(post));
+        dataVersions.bump(DataAggregate.POST);
+    }
+    
+    /**
+     * 게시글 상세 조회 (본문 포함)
+     * 
+     * @param postId 게시글 id
+     * @return 게시글
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public PostResponseDto getPost(Long postId) {
+        return singleFlight.execute("community.post", DataAggregate.POST, postId, () -> {
+            Post post = postRepository.findById(postId)
+                    .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다: " + postId));
+            return convertToDto(post);
+        });
+    }
+    
+    /**
+     * 모집글 참여 (TAXI/TEAM)
+     * 조건부 UPDATE 한 번으로 인원을 늘리므로 동시에 여러 명이 참여해도 정원을 넘지 않습니다.
+     * 
+     * @param postId 게시글 id
+     * @return 참여 후 게시글
+     */
+    @Transactional
+    public PostResponseDto joinPost(Long postId) {
+        int updated = postRepository.incrementCurrentPeople(postId, RECRUITMENT_CATEGORIES);
+        Post post = findRecruitmentPost(postId);
+        if (updated == 0) {
+            throw new ConflictException("모집 인원이 모두 찼습니다.");
         }
-        return response;
+        
+        // 참여 전에는 반드시 정원이 남아 있었음
+        boolean isOpen = PostCounters.isOpen(post.getCurrentPeople(), post.getMaxPeople());
+        PostSummaryDto summary = convertToSummary(post);
+        postCounters.openChanged(post.getCategory(), true, isOpen);
+        afterCommit(() -> {
+            recentPostBuffer.replace(summary);
+            postSearchIndex.updateSummary(summary);
+        });
+        postEventBroadcaster.publish(PostEventType.JOINED, summary);
+        if (!isOpen) {
+            postEventBroadcaster.publish(PostEventType.FILLED, summary);
+        }
+        dataVersions.bump(DataAggregate.POST);
+        return convertToDto(post);
+    }
+    
+    /**
+     * 모집글 나가기 (TAXI/TEAM)
+     * 
+     * @param postId 게시글 id
+     * @return 나간 후 게시글
+     */
+    @Transactional
+    public PostResponseDto leavePost(Long postId) {
+        int updated = postRepository.decrementCurrentPeople(postId, RECRUITMENT_CATEGORIES);
+        Post post = findRecruitmentPost(postId);
+        if (updated == 0) {
+            throw new ConflictException("나갈 수 있는 참여자가 없습니다.");
+        }
+        
+        // 나가기 후에는 반드시 정원이 남음
+        boolean wasOpen = PostCounters.isOpen(post.getCurrentPeople() + 1, post.getMaxPeople());
+        PostSummaryDto summary = convertToSummary(post);
+        postCounters.openChanged(post.getCategory(), wasOpen, true);
+        afterCommit(() -> {
+            recentPostBuffer.replace(summary);
+            postSearchIndex.updateSummary(summary);
+        });
+        postEventBroadcaster.publish(PostEventType.LEFT, summary);
+        dataVersions.bump(DataAggregate.POST);
+        return convertToDto(post);
+    }
+    
+    /**
+     * 모집글 조회 (없으면 404, 모집글이 아니면 400)
+     */
+    private Post findRecruitmentPost(Long postId) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다: " + postId));
+        if (!RECRUITMENT_CATEGORIES.contains(post.getCategory()) || post.getMaxPeople() == null) {
+            throw new BadRequestException("참여할 수 있는 모집글이 아닙니다.");
+        }
+        return post;
+    }
+    
+    /**
+     * 메모리 뷰 (최신 글 버퍼, 검색 색인, 카운터) 갱신은 커밋된 뒤에 실행
+     * (커밋 전에 반영하면 롤백된 변경이 남거나, 커밋 전 데이터를 다른 요청이 먼저 보게 됨)
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    private boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+    
+    /**
+     * Post를 DTO로 변환
+     */
+    private PostResponseDto convertToDto(Post post) {
+        return new PostResponseDto(
+            post.getId(),
+            post.getCategory(),
+            post.getTitle(),
+            post.getContent(),
+            post.getWriter(),
+            post.getPrice(),
+            post.getCurrentPeople(),
+            post.getMaxPeople(),
+            post.getCreatedDate()
+        );
+    }
+    
+    /**
+     * Post를 목록용 요약 DTO로 변환 (본문 제외)
+     */
+    private PostSummaryDto convertToSummary(Post post) {
+        return new PostSummaryDto(
+            post.getId(),
+            post.getCategory(),
+            post.getTitle(),
+            post.getWriter(),
+            post.getPrice(),
+            post.getCurrentPeople(),
+            post.getMaxPeople(),
+            post.getCreatedDate()
+        );
     }
 }
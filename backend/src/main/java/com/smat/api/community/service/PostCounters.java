@@ -0,0 +1,241 @@
+package com.smat.api.community.service;
+
+import com.smat.api.community.domain.Category;
+import com.smat.api.community.dto.PostCategoryCountDto;
+import com.smat.api.community.dto.PostStatsDto;
+import com.smat.api.community.repository.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 카테고리별 게시글 수 카운터
+ * 기동 시 GROUP BY 한 번으로 기준값을 정하고, 이후에는 CommunityService의 쓰기마다 커밋 후 증감만 반영합니다.
+ * 카테고리 탭의 개수 표시를 위해 게시글을 읽지 않고 바로 반환합니다.
+ * 
+ * 기동 중에도 요청을 받으므로 집계와 증감이 겹칠 수 있어, 증감은 기동 때부터 따로 누적하고 (초기화하지 않음)
+ * 통계는 기준값 + 증감으로 계산합니다. 기준값은 집계하는 동안 커밋 중인 쓰기가 없었던 집계로만 정하므로
+ * (기준값 = 집계 - 그 시점의 증감) 커밋된 쓰기가 빠지거나 두 번 세어지지 않습니다.
+ */
+@Component
+public class PostCounters {
+    
+    private static final Logger log = LoggerFactory.getLogger(PostCounters.class);
+    
+    // 집계가 쓰기 커밋과 계속 겹칠 때 다시 시도하는 횟수 (다 실패하면 DB 집계 경로를 계속 사용)
+    private static final int SEED_ATTEMPTS = 20;
+    private static final long SEED_RETRY_MILLIS = 50;
+    
+    private final PostRepository postRepository;
+    
+    // 기동 이후 누적 증감 (초기화하지 않음)
+    private final Map<Category, LongAdder> posts = new EnumMap<>(Category.class);
+    // 정원이 남은 모집글 수 (currentPeople < maxPeople)
+    private final Map<Category, LongAdder> open = new EnumMap<>(Category.class);
+    // 기준값 (seed 이후 불변)
+    private final Map<Category, long[]> base = new EnumMap<>(Category.class);
+    
+    // 커밋을 시작한 쓰기 수 / 커밋이 끝나지 않은 (증감 반영 전) 쓰기 수
+    private final AtomicLong commitsStarted = new AtomicLong();
+    private final AtomicInteger commitsInFlight = new AtomicInteger();
+    
+    private volatile boolean seeded;
+    
+    public PostCounters(PostRepository postRepository) {
+        this.postRepository = postRepository;
+        for (Category category : Category.values()) {
+            posts.put(category, new LongAdder());
+            open.put(category, new LongAdder());
+            base.put(category, new long[2]);
+        }
+    }
+    
+    /**
+     * 기동 직후 (초기 데이터 로딩 이후) DB 집계로 기준값을 정함
+     * 여러 곳에서 동시에 호출돼도 한 번에 하나만 실행되며, 이미 정했으면 다시 집계하지 않습니다.
+     * 집계 도중 커밋 중인 쓰기가 있었으면 그 집계는 버리고 다시 시도합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void seed() {
+        for (int attempt = 0; attempt < SEED_ATTEMPTS && !seeded; attempt++) {
+            if (attempt > 0 && !pause()) {
+                return;
+            }
+            if (commitsInFlight.get() != 0) {
+                continue;
+            }
+            long started = commitsStarted.get();
+            Map<Category, long[]> deltas = snapshotDeltas();
+            Map<Category, PostCategoryCountDto> counted = new EnumMap<>(Category.class);
+            for (PostCategoryCountDto count : postRepository.countByCategory()) {
+                counted.put(count.getCategory(), count);
+            }
+            if (commitsInFlight.get() != 0 || commitsStarted.get() != started) {
+                continue;
+            }
+            for (Category category : Category.values()) {
+                PostCategoryCountDto count = counted.getOrDefault(category, new PostCategoryCountDto(category, 0L, 0L));
+                long[] delta = deltas.get(category);
+                long[] seed = base.get(category);
+                seed[0] = count.getPostCount() - delta[0];
+                seed[1] = count.getOpenCount() - delta[1];
+            }
+            seeded = true;
+        }
+        if (!seeded) {
+            log.warn("post counters not seeded after {} attempts; stats stay on the DB query", SEED_ATTEMPTS);
+        }
+    }
+    
+    private static boolean pause() {
+        try {
+            Thread.sleep(SEED_RETRY_MILLIS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    public boolean isSeeded() {
+        return seeded;
+    }
+    
+    /**
+     * 게시글 작성 반영 (커밋 후)
+     */
+    public void postCreated(Category category, boolean isOpen) {
+        afterCommit(() -> {
+            posts.get(category).increment();
+            if (isOpen) {
+                open.get(category).increment();
+            }
+        });
+    }
+    
+    /**
+     * 게시글 삭제 반영 (커밋 후)
+     */
+    public void postDeleted(Category category, boolean wasOpen) {
+        afterCommit(() -> {
+            posts.get(category).decrement();
+            if (wasOpen) {
+                open.get(category).decrement();
+            }
+        });
+    }
+    
+    /**
+     * 모집 상태 변경 반영 (참여/나가기/최대 인원 수정, 커밋 후)
+     */
+    public void openChanged(Category category, boolean wasOpen, boolean isOpen) {
+        if (wasOpen == isOpen) {
+            return;
+        }
+        afterCommit(() -> {
+            if (isOpen) {
+                open.get(category).increment();
+            } else {
+                open.get(category).decrement();
+            }
+        });
+    }
+    
+    /**
+     * 커밋 후 증감 반영
+     * 커밋 직전부터 증감을 반영할 때까지 "커밋 중"으로 세어, seed가 그 사이에 집계한 값을 쓰지 않게 합니다.
+     */
+    private void afterCommit(Runnable delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delta.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean committing;
+            
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitsStarted.incrementAndGet();
+                commitsInFlight.incrementAndGet();
+                committing = true;
+            }
+            
+            @Override
+            public void afterCommit() {
+                delta.run();
+            }
+            
+            @Override
+            public void afterCompletion(int status) {
+                if (committing) {
+                    commitsInFlight.decrementAndGet();
+                }
+            }
+        });
+    }
+    
+    private Map<Category, long[]> snapshotDeltas() {
+        Map<Category, long[]> deltas = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            deltas.put(category, new long[]{posts.get(category).sum(), open.get(category).sum()});
+        }
+        return deltas;
+    }
+    
+    /**
+     * 현재 통계 (카테고리 수만큼만 계산하므로 게시글 수와 무관)
+     */
+    public PostStatsDto getStats() {
+        List<PostCategoryCountDto> categories = new ArrayList<>();
+        for (Category category : Category.values()) {
+            long[] seed = base.get(category);
+            categories.add(new PostCategoryCountDto(category,
+                    seed[0] + posts.get(category).sum(), seed[1] + open.get(category).sum()));
+        }
+        return toStats(categories);
+    }
+    
+    /**
+     * DB 집계로 바로 계산한 통계 (카운터가 채워지기 전 대체 경로, 카운터는 건드리지 않음)
+     */
+    public PostStatsDto loadStats() {
+        Map<Category, PostCategoryCountDto> counted = new EnumMap<>(Category.class);
+        for (PostCategoryCountDto count : postRepository.countByCategory()) {
+            counted.put(count.getCategory(), count);
+        }
+        List<PostCategoryCountDto> categories = new ArrayList<>();
+        for (Category category : Category.values()) {
+            categories.add(counted.getOrDefault(category, new PostCategoryCountDto(category, 0L, 0L)));
+        }
+        return toStats(categories);
+    }
+    
+    private static PostStatsDto toStats(List<PostCategoryCountDto> categories) {
+        long totalPosts = 0;
+        long openRecruitments = 0;
+        for (PostCategoryCountDto count : categories) {
+            totalPosts += count.getPostCount();
+            openRecruitments += count.getOpenCount();
+        }
+        return new PostStatsDto(totalPosts, openRecruitments, categories);
+    }
+    
+    /**
+     * 모집 중인 글인지 (정원이 남은 모집글)
+     */
+    public static boolean isOpen(Integer currentPeople, Integer maxPeople) {
+        return maxPeople != null && currentPeople != null && currentPeople < maxPeople;
+    }
+}
@@ -0,0 +1,55 @@
+package com.smat.api.community.service;
+
+import com.smat.api.common.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서 (작성일, id)
+ * 클라이언트에는 Base64 문자열로만 전달되며 내부 형식은 노출하지 않습니다.
+ */
+final class PostCursor {
+    
+    private static final String SEPARATOR = "|";
+    
+    private final LocalDateTime createdDate;
+    private final Long id;
+    
+    PostCursor(LocalDateTime createdDate, Long id) {
+        this.createdDate = createdDate;
+        this.id = id;
+    }
+    
+    LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+    
+    Long getId() {
+        return id;
+    }
+    
+    String encode() {
+        String raw = createdDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException("잘못된 커서입니다.");
+            }
+            return new PostCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException, Base64 디코딩 오류 포함
+            throw new BadRequestException("잘못된 커서입니다.");
+        }
+    }
+}
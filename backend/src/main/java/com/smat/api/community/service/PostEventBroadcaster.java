@@ -0,0 +1,385 @@
+package com.smat.api.community.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smat.api.common.ServiceUnavailableException;
+import com.smat.api.community.domain.PostEventType;
+import com.smat.api.community.dto.PostEventDto;
+import com.smat.api.community.dto.PostSummaryDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 이벤트 SSE 브로드캐스터
+ * 게시글 작성/수정/삭제, 모집글 참여/나가기/마감 이벤트를 구독 중인 클라이언트에 전달합니다.
+ * 발행하는 쪽은 구독자별 고정 크기 큐에 넣기만 하고 바로 반환하며, 실제 전송은 전용 스레드가 합니다.
+ * 큐가 가득 찬 (이벤트를 제때 받지 못하는) 구독자는 연결을 끊습니다. 클라이언트는 재연결하면 됩니다.
+ * 
+ * 연결 종료 (emitter.complete())와 전송 (emitter.send())은 전송 스레드에서만 합니다.
+ * 둘 다 emitter 락을 잡으므로, 발행/하트비트 스레드에서 부르면 막힌 전송 뒤에서 같이 멈추기 때문입니다.
+ * 한 번의 전송이 write-timeout을 넘기면 그 구독자를 끊고, 막힌 스레드가 돌아올 때까지 전송 스레드를 하나 더 씁니다.
+ * (느린 클라이언트 몇 명이 전송 스레드를 모두 붙잡아 다른 구독자의 이벤트가 멈추지 않도록)
+ */
+@Component
+public class PostEventBroadcaster {
+    
+    // 막힌 전송을 대신할 스레드를 늘려도 기본 스레드 수의 이 배수를 넘지 않음
+    private static final int MAX_SENDER_MULTIPLIER = 4;
+    
+    private final ObjectMapper objectMapper;
+    private final int maxSubscribers;
+    private final int queueSize;
+    private final long timeoutMillis;
+    private final int senderThreads;
+    private final long writeTimeoutNanos;
+    private final long heartbeatMillis;
+    
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor sender;
+    // 하트비트와 막힌 전송 감시 전용 (@Scheduled 공용 스레드와 분리)
+    private final ScheduledExecutorService scheduler;
+    private final AtomicLong sequence = new AtomicLong();
+    private int stalledSenders; // sender 락으로 보호
+    
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder stalled = new LongAdder();
+    
+    public PostEventBroadcaster(ObjectMapper objectMapper,
+                                @Value("${smat.community.events.max-subscribers:1000}") int maxSubscribers,
+                                @Value("${smat.community.events.queue-size:64}") int queueSize,
+                                @Value("${smat.community.events.timeout-ms:1800000}") long timeoutMillis,
+                                @Value("${smat.community.events.sender-threads:2}") int senderThreads,
+                                @Value("${smat.community.events.write-timeout-ms:5000}") long writeTimeoutMillis,
+                                @Value("${smat.community.events.heartbeat-ms:15000}") long heartbeatMillis) {
+        this.objectMapper = objectMapper;
+        this.maxSubscribers = maxSubscribers;
+        this.queueSize = queueSize;
+        this.timeoutMillis = timeoutMillis;
+        this.senderThreads = senderThreads;
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+        this.heartbeatMillis = heartbeatMillis;
+        
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "post-events-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "post-events-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleAtFixedRate(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        long checkMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(writeTimeoutNanos) / 2);
+        scheduler.scheduleWithFixedDelay(this::checkStalledSends, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * 새 구독 등록
+     * 
+     * @return 이벤트를 받을 SSE 연결
+     */
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(timeoutMillis));
+    }
+    
+    SseEmitter subscribe(SseEmitter emitter) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceUnavailableException("실시간 알림 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        
+        Subscriber subscriber = new Subscriber(emitter, queueSize);
+        emitter.onCompletion(() -> disconnect(subscriber));
+        emitter.onTimeout(() -> disconnect(subscriber));
+        emitter.onError(error -> disconnect(subscriber));
+        subscribers.add(subscriber);
+        
+        // 프록시가 응답을 바로 흘려보내도록 연결 직후 한 번 전송
+        enqueue(subscriber, Message.comment("connected"));
+        return emitter;
+    }
+    
+    /**
+     * 게시글 이벤트 발행
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 전송합니다. (롤백된 변경은 알리지 않음)
+     */
+    public void publish(PostEventType type, PostSummaryDto post) {
+        PostEventDto event = new PostEventDto(type, post, LocalDateTime.now());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcast(event);
+                }
+            });
+        } else {
+            broadcast(event);
+        }
+    }
+    
+    /**
+     * 주기적으로 하트비트 전송 (유휴 연결이 프록시에서 끊기지 않도록, 끊긴 연결 정리)
+     */
+    void heartbeat() {
+        Message message = Message.comment("heartbeat");
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, message);
+        }
+    }
+    
+    /**
+     * write-timeout을 넘긴 전송 감시
+     * 해당 구독자는 끊고 (새 이벤트를 받지 않음), 막힌 스레드가 돌아올 때까지 전송 스레드를 하나 늘립니다.
+     * 연결 종료 자체는 막힌 전송이 돌아온 뒤 그 전송 스레드가 합니다.
+     */
+    void checkStalledSends() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.state.get() == Subscriber.SENDING
+                    && now - subscriber.sendStartedNanos > writeTimeoutNanos
+                    && subscriber.state.compareAndSet(Subscriber.SENDING, Subscriber.STALLED)) {
+                stalled.increment();
+                resizeSender(1);
+                disconnect(subscriber);
+            }
+        }
+    }
+    
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+    
+    public long getPublishedCount() {
+        return published.sum();
+    }
+    
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+    
+    /**
+     * write-timeout을 넘겨 끊은 구독자 수
+     */
+    public long getStalledCount() {
+        return stalled.sum();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            disconnect(subscriber);
+        }
+        // 대기 중인 연결 종료를 잠깐 기다린 뒤 (막힌 전송이 있으면) 정리
+        sender.shutdown();
+        try {
+            if (!sender.awaitTermination(1, TimeUnit.SECONDS)) {
+                sender.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            sender.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void broadcast(PostEventDto event) {
+        published.increment();
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        
+        // JSON 직렬화는 구독자 수와 상관없이 한 번만
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("이벤트를 직렬화할 수 없습니다.", e);
+        }
+        Message message = Message.event(
+                String.valueOf(sequence.incrementAndGet()),
+                event.getType().name().toLowerCase(Locale.ROOT),
+                json);
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, message);
+        }
+    }
+    
+    /**
+     * 구독자 큐에 넣기 (블로킹 없음)
+     * 큐가 가득 찼으면 느린 구독자로 보고 연결을 끊습니다.
+     */
+    private void enqueue(Subscriber subscriber, Message message) {
+        if (!subscriber.queue.offer(message)) {
+            dropped.increment();
+            disconnect(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+    
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+    
+    /**
+     * 구독자 큐의 이벤트를 순서대로 전송 (구독자당 한 스레드만 실행)
+     * 끊긴 구독자는 여기서 연결을 종료합니다.
+     */
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            if (subscriber.closed) {
+                // draining을 내리지 않으므로 이후 다시 실행되지 않음 (종료는 한 번만)
+                subscriber.queue.clear();
+                subscriber.emitter.complete();
+                return;
+            }
+            Message message = subscriber.queue.poll();
+            if (message == null) {
+                subscriber.draining.set(false);
+                // 플래그를 내린 사이에 들어온 이벤트나 종료 요청이 있으면 이어서 처리
+                if ((subscriber.queue.isEmpty() && !subscriber.closed)
+                        || !subscriber.draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            send(subscriber, message);
+        }
+    }
+    
+    private void send(Subscriber subscriber, Message message) {
+        subscriber.sendStartedNanos = System.nanoTime();
+        subscriber.state.set(Subscriber.SENDING);
+        try {
+            subscriber.emitter.send(message.toEvent());
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 이미 종료된 연결
+            disconnect(subscriber);
+        } finally {
+            if (subscriber.state.getAndSet(Subscriber.IDLE) == Subscriber.STALLED) {
+                // 감시 스레드가 대신 늘려 둔 전송 스레드를 되돌림
+                resizeSender(-1);
+            }
+        }
+    }
+    
+    /**
+     * 구독자 끊기 (어느 스레드에서 불러도 블로킹 없음)
+     * 더 이상 이벤트를 넣지 않고, 연결 종료는 전송 스레드에 맡깁니다.
+     */
+    private void disconnect(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        if (!subscriber.closed) {
+            subscriber.closed = true;
+            subscriber.queue.clear();
+            scheduleDrain(subscriber);
+        }
+    }
+    
+    /**
+     * 막힌 전송 수만큼 전송 스레드 수 조정 (기본 스레드 수 x MAX_SENDER_MULTIPLIER 까지)
+     */
+    private void resizeSender(int delta) {
+        synchronized (sender) {
+            stalledSenders += delta;
+            int size = Math.min(senderThreads + stalledSenders, senderThreads * MAX_SENDER_MULTIPLIER);
+            if (size > sender.getMaximumPoolSize()) {
+                sender.setMaximumPoolSize(size);
+                sender.setCorePoolSize(size);
+            } else if (size < sender.getMaximumPoolSize()) {
+                sender.setCorePoolSize(size);
+                sender.setMaximumPoolSize(size);
+            }
+        }
+    }
+    
+    /**
+     * 구독자 (SSE 연결 + 전송 대기 큐)
+     */
+    private static final class Subscriber {
+        
+        // 전송 상태 (전송 중 write-timeout을 넘기면 감시 스레드가 STALLED로 바꿈)
+        static final int IDLE = 0;
+        static final int SENDING = 1;
+        static final int STALLED = 2;
+        
+        final SseEmitter emitter;
+        final Queue<Message> queue;
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicInteger state = new AtomicInteger(IDLE);
+        volatile long sendStartedNanos;
+        volatile boolean closed;
+        
+        Subscriber(SseEmitter emitter, int queueSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+        }
+    }
+    
+    /**
+     * 전송할 메시지 (이벤트 또는 주석)
+     * SseEventBuilder는 한 번만 쓸 수 있으므로 전송할 때마다 새로 만듭니다.
+     */
+    private static final class Message {
+        
+        final String id;
+        final String name;
+        final String json;
+        final String comment;
+        
+        private Message(String id, String name, String json, String comment) {
+            this.id = id;
+            this.name = name;
+            this.json = json;
+            this.comment = comment;
+        }
+        
+        static Message event(String id, String name, String json) {
+            return new Message(id, name, json, null);
+        }
+        
+        static Message comment(String comment) {
+            return new Message(null, null, null, comment);
+        }
+        
+        SseEmitter.SseEventBuilder toEvent() {
+            if (comment != null) {
+                return SseEmitter.event().comment(comment);
+            }
+            return SseEmitter.event().id(id).name(name).data(json, MediaType.APPLICATION_JSON);
+        }
+    }
+}
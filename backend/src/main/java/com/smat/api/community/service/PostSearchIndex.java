@@ -0,0 +1,481 @@
+package com.smat.api.community.service;
+
+import com.smat.api.community.domain.Category;
+import com.smat.api.community.domain.Post;
+import com.smat.api.community.dto.PostSummaryDto;
+import com.smat.api.community.repository.PostRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 검색용 역색인 (문자 unigram + bigram)
+ * 형태소 분석 없이도 한글 검색이 되도록 제목/본문을 한 글자, 두 글자 단위로 잘라 색인합니다.
+ * 두 글자 이상 검색어는 bigram으로, 한 글자 검색어 ("책", "밥")는 unigram으로 찾으므로
+ * 단어 중간에 나온 글자도 DB LIKE 검색과 같이 찾습니다.
+ * 각 단어(bigram)의 게시글 목록은 정렬된 int[] 배열로 보관하며, 게시글 작성/수정/삭제 시 해당 게시글만 반영합니다.
+ */
+@Component
+public class PostSearchIndex {
+    
+    private static final int BUILD_BATCH_SIZE = 1000;
+    // 제목에 나온 단어는 본문보다 가중치를 높게
+    private static final int TITLE_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+    
+    private final PostRepository postRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // 단어 -> 게시글 id 목록 (제목/본문 따로)
+    private final Map<String, Postings> titlePostings = new HashMap<>();
+    private final Map<String, Postings> contentPostings = new HashMap<>();
+    // 게시글 id -> 색인된 단어 (삭제/수정 시 사용)
+    private final Map<Integer, IndexedPost> posts = new HashMap<>();
+    // 색인 중 (ready 전) 작성/수정/삭제가 반영된 게시글 id
+    // 색인이 그보다 먼저 DB에서 읽은 이전 내용으로 덮어쓰지 않도록 건너뛰고, 끝에 DB에서 다시 읽어 반영
+    private final Set<Integer> changedWhileBuilding = new HashSet<>();
+    
+    private volatile boolean ready;
+    
+    public PostSearchIndex(PostRepository postRepository) {
+        this.postRepository = postRepository;
+    }
+    
+    /**
+     * 기동 직후 (초기 데이터 로딩 이후) 전체 게시글 색인
+     * 본문까지 읽어야 하므로 id 순으로 나눠서 읽습니다.
+     * 한 번에 하나만 실행되며, 이미 색인이 끝났으면 다시 읽지 않습니다.
+     * 색인 중에는 isReady()가 false이므로 검색은 DB로 처리됩니다.
+     * 색인 중에 작성/수정/삭제된 게시글은 읽어 둔 내용으로 덮어쓰지 않고, 마지막에 DB에서 다시 읽어 반영합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void warmUp() {
+        if (ready) {
+            return;
+        }
+        long lastId = 0;
+        List<Post> batch;
+        do {
+            batch = postRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+            putAll(batch, Collections.emptySet());
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == BUILD_BATCH_SIZE);
+        
+        // 색인 중 바뀐 게시글 다시 반영 (다시 읽는 사이에 또 바뀌면 다음 차례에 한 번 더)
+        while (true) {
+            Set<Long> changed = new HashSet<>();
+            lock.writeLock().lock();
+            try {
+                if (changedWhileBuilding.isEmpty()) {
+                    ready = true;
+                    return;
+                }
+                changedWhileBuilding.forEach(id -> changed.add(id.longValue()));
+                changedWhileBuilding.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            putAll(postRepository.findAllById(changed), changed);
+        }
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return posts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 게시글 추가 (이미 있으면 교체)
+     */
+    public void add(Post post) {
+        int id = Math.toIntExact(post.getId());
+        IndexedPost indexed = index(post);
+        
+        lock.writeLock().lock();
+        try {
+            markChangedLocked(id);
+            putLocked(id, indexed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 게시글 삭제
+     */
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            markChangedLocked(Math.toIntExact(postId));
+            removeLocked(Math.toIntExact(postId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 목록에 표시되는 요약 정보만 교체 (모집 인원 변경 등, 재색인 없음)
+     */
+    public void updateSummary(PostSummaryDto summary) {
+        lock.writeLock().lock();
+        try {
+            markChangedLocked(Math.toIntExact(summary.getId()));
+            IndexedPost indexed = posts.get(Math.toIntExact(summary.getId()));
+            if (indexed != null) {
+                posts.put(Math.toIntExact(summary.getId()),
+                        new IndexedPost(summary, indexed.titleTerms, indexed.contentTerms));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 검색
+     * 검색어의 모든 단어 (bigram, 한 글자 어절은 unigram)를 포함하는 게시글을 점수(제목 일치 우선) 내림차순, 같은 점수면 최신 id 순으로 반환합니다.
+     *
+     * @param query 검색어
+     * @param category 카테고리 필터 (null이면 전체)
+     * @param offset 건너뛸 개수
+     * @param limit 최대 개수
+     * @return 검색 결과 (전체 건수 포함)
+     */
+    public SearchResult search(String query, Category category, int offset, int limit) {
+        String[] queryTerms = queryTerms(query);
+        if (queryTerms.length == 0) {
+            return new SearchResult(Collections.emptyList(), 0);
+        }
+        
+        lock.readLock().lock();
+        try {
+            // 각 단어의 (제목 ∪ 본문) 게시글 목록 교집합
+            int[] candidates = null;
+            for (String term : queryTerms) {
+                int[] matched = union(postingsOf(titlePostings, term), postingsOf(contentPostings, term));
+                candidates = candidates == null ? matched : intersect(candidates, matched);
+                if (candidates.length == 0) {
+                    return new SearchResult(Collections.emptyList(), 0);
+                }
+            }
+            
+            // 점수 계산 + 카테고리 필터
+            List<long[]> scored = new ArrayList<>(candidates.length);
+            for (int id : candidates) {
+                IndexedPost post = posts.get(id);
+                if (post == null || (category != null && post.summary.getCategory() != category)) {
+                    continue;
+                }
+                int score = 0;
+                for (String term : queryTerms) {
+                    if (postingsOf(titlePostings, term).contains(id)) {
+                        score += TITLE_WEIGHT;
+                    }
+                    if (postingsOf(contentPostings, term).contains(id)) {
+                        score += CONTENT_WEIGHT;
+                    }
+                }
+                scored.add(new long[]{score, id});
+            }
+            scored.sort((a, b) -> a[0] != b[0] ? Long.compare(b[0], a[0]) : Long.compare(b[1], a[1]));
+            
+            List<PostSummaryDto> page = new ArrayList<>();
+            for (int i = offset; i < scored.size() && page.size() < limit; i++) {
+                page.add(posts.get((int) scored.get(i)[1]).summary);
+            }
+            return new SearchResult(page, scored.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 색인 중 DB에서 읽은 게시글 반영
+     * 읽은 뒤에 실시간으로 반영된 게시글은 건너뛰고 (다음 차례에 다시 읽음), expected 중 읽히지 않은 id는 삭제된 것으로 처리합니다.
+     */
+    private void putAll(List<Post> loaded, Set<Long> expected) {
+        Map<Integer, IndexedPost> indexed = new HashMap<>();
+        for (Post post : loaded) {
+            indexed.put(Math.toIntExact(post.getId()), index(post));
+        }
+        lock.writeLock().lock();
+        try {
+            indexed.forEach((id, post) -> {
+                if (!changedWhileBuilding.contains(id)) {
+                    putLocked(id, post);
+                }
+            });
+            for (Long postId : expected) {
+                int id = Math.toIntExact(postId);
+                if (!indexed.containsKey(id) && !changedWhileBuilding.contains(id)) {
+                    removeLocked(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void markChangedLocked(int id) {
+        if (!ready) {
+            changedWhileBuilding.add(id);
+        }
+    }
+    
+    private void putLocked(int id, IndexedPost indexed) {
+        removeLocked(id);
+        for (String term : indexed.titleTerms) {
+            titlePostings.computeIfAbsent(term, t -> new Postings()).add(id);
+        }
+        for (String term : indexed.contentTerms) {
+            contentPostings.computeIfAbsent(term, t -> new Postings()).add(id);
+        }
+        posts.put(id, indexed);
+    }
+    
+    private static IndexedPost index(Post post) {
+        return new IndexedPost(toSummary(post), terms(post.getTitle()), terms(post.getContent()));
+    }
+    
+    private void removeLocked(int id) {
+        IndexedPost previous = posts.remove(id);
+        if (previous == null) {
+            return;
+        }
+        removePostings(titlePostings, previous.titleTerms, id);
+        removePostings(contentPostings, previous.contentTerms, id);
+    }
+    
+    private static void removePostings(Map<String, Postings> index, String[] terms, int id) {
+        for (String term : terms) {
+            Postings postings = index.get(term);
+            if (postings != null && postings.remove(id) && postings.size == 0) {
+                index.remove(term);
+            }
+        }
+    }
+    
+    private static Postings postingsOf(Map<String, Postings> index, String term) {
+        Postings postings = index.get(term);
+        return postings != null ? postings : Postings.EMPTY;
+    }
+    
+    /**
+     * 색인할 단어로 분해 (어절의 모든 글자 unigram + 두 글자 bigram)
+     */
+    static String[] terms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            for (int j = 0; j < word.length(); j++) {
+                terms.add(word.substring(j, j + 1));
+            }
+            addBigrams(terms, word);
+        }
+        return terms.toArray(new String[0]);
+    }
+    
+    /**
+     * 검색어를 찾을 단어로 분해 (한 글자 어절은 unigram, 나머지는 bigram)
+     */
+    static String[] queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(query)) {
+            if (word.length() == 1) {
+                terms.add(word);
+            } else {
+                addBigrams(terms, word);
+            }
+        }
+        return terms.toArray(new String[0]);
+    }
+    
+    /**
+     * 소문자로 바꾸고 글자/숫자만 남겨 어절로 분리
+     */
+    private static List<String> words(String text) {
+        if (text == null) {
+            return Collections.emptyList();
+        }
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i <= lower.length(); i++) {
+            char c = i < lower.length() ? lower.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        return words;
+    }
+    
+    private static void addBigrams(Set<String> terms, String word) {
+        for (int j = 0; j + 2 <= word.length(); j++) {
+            terms.add(word.substring(j, j + 2));
+        }
+    }
+    
+    private static int[] union(Postings a, Postings b) {
+        int[] result = new int[a.size + b.size];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.size || j < b.size) {
+            int next;
+            if (j >= b.size || (i < a.size && a.ids[i] < b.ids[j])) {
+                next = a.ids[i++];
+            } else if (i >= a.size || b.ids[j] < a.ids[i]) {
+                next = b.ids[j++];
+            } else {
+                next = a.ids[i++];
+                j++;
+            }
+            result[n++] = next;
+        }
+        return Arrays.copyOf(result, n);
+    }
+    
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+    
+    private static PostSummaryDto toSummary(Post post) {
+        return new PostSummaryDto(
+            post.getId(),
+            post.getCategory(),
+            post.getTitle(),
+            post.getWriter(),
+            post.getPrice(),
+            post.getCurrentPeople(),
+            post.getMaxPeople(),
+            post.getCreatedDate()
+        );
+    }
+    
+    /**
+     * 검색 결과 한 페이지와 전체 건수
+     */
+    public static final class SearchResult {
+        
+        private final List<PostSummaryDto> posts;
+        private final int total;
+        
+        SearchResult(List<PostSummaryDto> posts, int total) {
+            this.posts = posts;
+            this.total = total;
+        }
+        
+        public List<PostSummaryDto> getPosts() {
+            return posts;
+        }
+        
+        public int getTotal() {
+            return total;
+        }
+    }
+    
+    /**
+     * 색인된 게시글 (요약 + 색인 단어)
+     */
+    private static final class IndexedPost {
+        
+        final PostSummaryDto summary;
+        final String[] titleTerms;
+        final String[] contentTerms;
+        
+        IndexedPost(PostSummaryDto summary, String[] titleTerms, String[] contentTerms) {
+            this.summary = summary;
+            this.titleTerms = titleTerms;
+            this.contentTerms = contentTerms;
+        }
+    }
+    
+    /**
+     * 정렬된 게시글 id 목록 (가변 길이 int 배열)
+     */
+    private static final class Postings {
+        
+        static final Postings EMPTY = new Postings();
+        
+        int[] ids = new int[4];
+        int size;
+        
+        void add(int id) {
+            // 새 글은 id가 가장 크므로 대부분 끝에 붙음
+            if (size == 0 || ids[size - 1] < id) {
+                grow();
+                ids[size++] = id;
+                return;
+            }
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            grow();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+        
+        boolean remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+        
+        boolean contains(int id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+        
+        private void grow() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+        }
+    }
+}
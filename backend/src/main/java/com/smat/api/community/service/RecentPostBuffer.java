@@ -0,0 +1,134 @@
+package com.smat.api.community.service;
+
+import com.smat.api.community.dto.PostSummaryDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 최신 게시글 링 버퍼
+ * 가장 최근 게시글 N개를 고정 크기 배열에 보관하고, 홈 화면 위젯 조회 시 DB 없이 반환합니다.
+ * 쓰기는 락으로 직렬화하고, 읽기는 미리 만들어 둔 불변 리스트를 그대로 돌려줍니다.
+ */
+@Component
+public class RecentPostBuffer {
+    
+    private final PostSummaryDto[] ring;
+    private int head; // 다음에 쓸 위치
+    private int size;
+    private volatile boolean seeded;
+    
+    // 최신순으로 정렬된 불변 스냅샷 (읽기 전용)
+    private volatile List<PostSummaryDto> snapshot = Collections.emptyList();
+    
+    public RecentPostBuffer(@Value("${smat.community.recent-posts.size:5}") int capacity) {
+        this.ring = new PostSummaryDto[capacity];
+    }
+    
+    public int getCapacity() {
+        return ring.length;
+    }
+    
+    /**
+     * DB에서 한 번이라도 채워졌는지 여부
+     */
+    public boolean isSeeded() {
+        return seeded;
+    }
+    
+    /**
+     * 최신 게시글 조회 (최신순, 최대 capacity개)
+     */
+    public List<PostSummaryDto> getRecent() {
+        return snapshot;
+    }
+    
+    /**
+     * 새 게시글 추가 (가장 오래된 항목을 덮어씀)
+     */
+    public synchronized void push(PostSummaryDto post) {
+        ring[head] = post;
+        head = (head + 1) % ring.length;
+        if (size < ring.length) {
+            size++;
+        }
+        publish();
+    }
+    
+    /**
+     * 버퍼에 있는 게시글의 내용을 최신 상태로 교체 (모집 인원 변경 등)
+     */
+    public synchronized void replace(PostSummaryDto post) {
+        for (int i = 0; i < size; i++) {
+            int index = (head - 1 - i + ring.length) % ring.length;
+            if (ring[index].getId().equals(post.getId())) {
+                ring[index] = post;
+                publish();
+                return;
+            }
+        }
+    }
+    
+    /**
+     * 삭제된 게시글을 버퍼에서 제거
+     * 빈 자리는 다음 seed 때 DB에서 다시 채웁니다.
+     */
+    public synchronized void remove(Long postId) {
+        List<PostSummaryDto> remaining = new ArrayList<>(snapshot);
+        if (!remaining.removeIf(post -> post.getId().equals(postId))) {
+            return;
+        }
+        
+        head = 0;
+        size = 0;
+        for (int i = remaining.size() - 1; i >= 0; i--) {
+            ring[head] = remaining.get(i);
+            head = (head + 1) % ring.length;
+            size++;
+        }
+        publish();
+    }
+    
+    /**
+     * DB에서 읽은 최신 게시글로 버퍼를 채움
+     * 그 사이에 push된 게시글과 합쳐 최신순으로 다시 정렬합니다.
+     */
+    public synchronized void seed(List<PostSummaryDto> newestFirst) {
+        List<PostSummaryDto> merged = new ArrayList<>(snapshot);
+        merged.addAll(newestFirst);
+        merged.sort(Comparator.comparing(PostSummaryDto::getCreatedDate).reversed());
+        
+        Set<Long> seen = new HashSet<>();
+        List<PostSummaryDto> unique = new ArrayList<>();
+        for (PostSummaryDto post : merged) {
+            if (seen.add(post.getId()) && unique.size() < ring.length) {
+                unique.add(post);
+            }
+        }
+        
+        // 오래된 것부터 다시 채워 head가 가장 최신 항목 다음을 가리키도록 함
+        head = 0;
+        size = 0;
+        for (int i = unique.size() - 1; i >= 0; i--) {
+            ring[head] = unique.get(i);
+            head = (head + 1) % ring.length;
+            size++;
+        }
+        seeded = true;
+        publish();
+    }
+    
+    private void publish() {
+        List<PostSummaryDto> newestFirst = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            newestFirst.add(ring[(head - i + ring.length) % ring.length]);
+        }
+        snapshot = Collections.unmodifiableList(newestFirst);
+    }
+}
@@ -0,0 +1,19 @@
+package com.smat.api.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * 현재 시각 제공용 Clock
+ * 서비스는 LocalDate.now() 대신 이 Clock을 주입받아 사용합니다. (테스트/벤치마크에서 고정 시각으로 교체 가능)
+ */
+@Configuration
+public class ClockConfig {
+    
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -4,12 +4,19 @@ import com.smat.api.campus.domain.Menu;
 import com.smat.api.campus.domain.Restaurant;
 import com.smat.api.campus.repository.MenuRepository;
 import com.smat.api.campus.repository.RestaurantRepository;
+import com.smat.api.schedule.domain.Enrollment;
 import com.smat.api.schedule.domain.Lecture;
+import com.smat.api.schedule.repository.EnrollmentRepository;
 import com.smat.api.schedule.repository.LectureRepository;
 import com.smat.api.community.domain.Category;
 import com.smat.api.community.domain.Post;
 import com.smat.api.community.repository.PostRepository;
+import com.smat.api.ingest.service.BulkImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.time.DayOfWeek;
@@ -17,34 +24,49 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE) // 부하 테스트 데이터(LoadTestDataLoader)보다 먼저 실행
 public class DataLoader implements CommandLineRunner {
     
+    private static final Logger log = LoggerFactory.getLogger(DataLoader.class);
+    
     private final RestaurantRepository restaurantRepository;
     private final MenuRepository menuRepository;
     private final LectureRepository lectureRepository;
+    private final EnrollmentRepository enrollmentRepository;
     private final PostRepository postRepository;
+    private final BulkImportService bulkImportService;
+    private final HealthMonitor healthMonitor;
     
     public DataLoader(RestaurantRepository restaurantRepository, 
                       MenuRepository menuRepository,
                       LectureRepository lectureRepository,
-                      PostRepository postRepository) {
+                      EnrollmentRepository enrollmentRepository,
+                      PostRepository postRepository,
+                      BulkImportService bulkImportService,
+                      HealthMonitor healthMonitor) {
         this.restaurantRepository = restaurantRepository;
         this.menuRepository = menuRepository;
         this.lectureRepository = lectureRepository;
+        this.enrollmentRepository = enrollmentRepository;
         this.postRepository = postRepository;
+        this.bulkImportService = bulkImportService;
+        this.healthMonitor = healthMonitor;
     }
     
     @Override
     public void run(String... args) throws Exception {
         // 데이터가 이미 존재하는지 확인
         if (restaurantRepository.count() > 0) {
-            System.out.println("✅ 데이터가 이미 존재합니다. 초기 데이터 로딩을 건너뜁니다.");
+            log.info("✅ 데이터가 이미 존재합니다. 초기 데이터 로딩을 건너뜁니다.");
+            healthMonitor.markDataLoaded();
             return;
         }
         
-        System.out.println("🔄 초기 데이터를 로딩합니다...");
+        log.info("🔄 초기 데이터를 로딩합니다...");
         
         // ========== 1. 학식 메뉴 데이터 ==========
         loadCampusMenuData();
@@ -55,11 +77,11 @@ public class DataLoader implements CommandLineRunner {
         // ========== 3. 커뮤니티 데이터 ==========
         loadCommunityData();
         
-        System.out.println("🎉 초기 데이터 로딩이 완료되었습니다!");
-        System.out.println("📊 총 " + restaurantRepository.count() + "개의 식당, " 
-                         + menuRepository.count() + "개의 메뉴, "
-                         + lectureRepository.count() + "개의 강의, "
-                         + postRepository.count() + "개의 게시글이 생성되었습니다.");
+        log.info("🎉 초기 데이터 로딩이 완료되었습니다!");
+        log.info("📊 총 {}개의 식당, {}개의 메뉴, {}개의 강의, {}개의 게시글이 생성되었습니다.",
+                restaurantRepository.count(), menuRepository.count(),
+                lectureRepository.count(), postRepository.count());
+        healthMonitor.markDataLoaded();
     }
     
     /**
@@ -77,37 +99,42 @@ public class DataLoader implements CommandLineRunner {
         dormitoryRestaurant = restaurantRepository.save(dormitoryRestaurant);
         foodCourtRestaurant = restaurantRepository.save(foodCourtRestaurant);
         
-        System.out.println("✅ 식당 데이터 생성 완료");
+        log.info("✅ 식당 데이터 생성 완료");
         
         // 2. 오늘 날짜의 메뉴 데이터 생성
         LocalDate today = LocalDate.now();
         
+        List<Menu> menus = new ArrayList<>();
+        
         // 학생식당 메뉴 (오늘 날짜)
-        menuRepository.save(new Menu(null, today, "조식", "소고기무국", 4000, studentRestaurant.getId()));
-        menuRepository.save(new Menu(null, today, "중식", "눈꽃치즈돈까스 & 미니우동", 5500, studentRestaurant.getId()));
-        menuRepository.save(new Menu(null, today, "석식", "참치마요덮밥", 4500, studentRestaurant.getId()));
+        menus.add(new Menu(null, today, "조식", "소고기무국", 4000, studentRestaurant.getId()));
+        menus.add(new Menu(null, today, "중식", "눈꽃치즈돈까스 & 미니우동", 5500, studentRestaurant.getId()));
+        menus.add(new Menu(null, today, "석식", "참치마요덮밥", 4500, studentRestaurant.getId()));
         
         // 교직원식당 메뉴
-        menuRepository.save(new Menu(null, today, "중식", "김치찌개+밥+샐러드+과일", 6000, facultyRestaurant.getId()));
-        menuRepository.save(new Menu(null, today, "석식", "삼겹살+쌈채소+된장찌개+밥", 7000, facultyRestaurant.getId()));
+        menus.add(new Menu(null, today, "중식", "김치찌개+밥+샐러드+과일", 6000, facultyRestaurant.getId()));
+        menus.add(new Menu(null, today, "석식", "삼겹살+쌈채소+된장찌개+밥", 7000, facultyRestaurant.getId()));
         
         // 기숙사식당 메뉴
-        menuRepository.save(new Menu(null, today, "조식", "시리얼+우유+바나나", 2500, dormitoryRestaurant.getId()));
-        menuRepository.save(new Menu(null, today, "중식", "카레라이스+돈까스+샐러드", 4500, dormitoryRestaurant.getId()));
-        menuRepository.save(new Menu(null, today, "석식", "라면+김밥+단무지", 4000, dormitoryRestaurant.getId()));
+        menus.add(new Menu(null, today, "조식", "시리얼+우유+바나나", 2500, dormitoryRestaurant.getId()));
+        menus.add(new Menu(null, today, "중식", "카레라이스+돈까스+샐러드", 4500, dormitoryRestaurant.getId()));
+        menus.add(new Menu(null, today, "석식", "라면+김밥+단무지", 4000, dormitoryRestaurant.getId()));
         
         // 푸드코트 메뉴
-        menuRepository.save(new Menu(null, today, "중식", "짜장면+탕수육 세트", 5500, foodCourtRestaurant.getId()));
-        menuRepository.save(new Menu(null, today, "중식", "김치찌개+밥+계란말이", 4500, foodCourtRestaurant.getId()));
-        menuRepository.save(new Menu(null, today, "석식", "치킨마요덮밥+된장국", 5000, foodCourtRestaurant.getId()));
+        menus.add(new Menu(null, today, "중식", "짜장면+탕수육 세트", 5500, foodCourtRestaurant.getId()));
+        menus.add(new Menu(null, today, "중식", "김치찌개+밥+계란말이", 4500, foodCourtRestaurant.getId()));
+        menus.add(new Menu(null, today, "석식", "치킨마요덮밥+된장국", 5000, foodCourtRestaurant.getId()));
         
         // 내일 날짜의 메뉴도 추가 (테스트용)
         LocalDate tomorrow = today.plusDays(1);
-        menuRepository.save(new Menu(null, tomorrow, "중식", "불고기+밥+미역국", 5500, studentRestaurant.getId()));
-        menuRepository.save(new Menu(null, tomorrow, "중식", "갈비탕+밥+김치", 6500, facultyRestaurant.getId()));
-        menuRepository.save(new Menu(null, tomorrow, "석식", "햄버거+감자튀김+콜라", 5000, dormitoryRestaurant.getId()));
+        menus.add(new Menu(null, tomorrow, "중식", "불고기+밥+미역국", 5500, studentRestaurant.getId()));
+        menus.add(new Menu(null, tomorrow, "중식", "갈비탕+밥+김치", 6500, facultyRestaurant.getId()));
+        menus.add(new Menu(null, tomorrow, "석식", "햄버거+감자튀김+콜라", 5000, dormitoryRestaurant.getId()));
+        
+        // 메뉴는 JDBC 배치 INSERT로 한 번에 저장 (스냅샷 캐시도 함께 갱신)
+        bulkImportService.importMenus(menus);
         
-        System.out.println("✅ 메뉴 데이터 생성 완료");
+        log.info("✅ 메뉴 데이터 생성 완료");
     }
     
     /**
@@ -133,7 +160,8 @@ public class DataLoader implements CommandLineRunner {
         String timeRange = startTime + "-" + endTime;
         
         // ⭐ 오늘 + 1시간 후에 시작하는 강의 추가 (홈 화면 '다음 수업' 위젯용)
-        lectureRepository.save(new Lecture(
+        List<Lecture> lectures = new ArrayList<>();
+        lectures.add(new Lecture(
             null, 
             "알고리즘", 
             "최지훈 교수", 
@@ -142,32 +170,49 @@ public class DataLoader implements CommandLineRunner {
             "공학관 301"
         ));
         
-        System.out.println("✅ [홈 화면용] 오늘(" + todayKorean + "요일) " + startTime + " 시작 '다음 수업' 생성 완료");
+        log.info("✅ [홈 화면용] 오늘({}요일) {} 시작 '다음 수업' 생성 완료", todayKorean, startTime);
         
         // 월요일 강의
-        lectureRepository.save(new Lecture(null, "자료구조", "김철수 교수", "월", "09:00-10:30", "공학관 301"));
-        lectureRepository.save(new Lecture(null, "웹프로그래밍", "이영희 교수", "월", "10:30-12:00", "공학관 405"));
-        lectureRepository.save(new Lecture(null, "데이터베이스", "박민수 교수", "월", "13:00-14:30", "IT관 201"));
+        lectures.add(new Lecture(null, "자료구조", "김철수 교수", "월", "09:00-10:30", "공학관 301"));
+        lectures.add(new Lecture(null, "웹프로그래밍", "이영희 교수", "월", "10:30-12:00", "공학관 405"));
+        lectures.add(new Lecture(null, "데이터베이스", "박민수 교수", "월", "13:00-14:30", "IT관 201"));
         
         // 화요일 강의
-        lectureRepository.save(new Lecture(null, "채플", "목회실", "화", "10:00-10:50", "대강당"));
-        lectureRepository.save(new Lecture(null, "알고리즘", "최지훈 교수", "화", "14:00-15:30", "공학관 302"));
-        lectureRepository.save(new Lecture(null, "영어회화", "Smith 교수", "화", "15:30-17:00", "어학관 101"));
+        lectures.add(new Lecture(null, "채플", "목회실", "화", "10:00-10:50", "대강당"));
+        lectures.add(new Lecture(null, "알고리즘", "최지훈 교수", "화", "14:00-15:30", "공학관 302"));
+        lectures.add(new Lecture(null, "영어회화", "Smith 교수", "화", "15:30-17:00", "어학관 101"));
         
         // 수요일 강의
-        lectureRepository.save(new Lecture(null, "운영체제", "정대성 교수", "수", "09:00-10:30", "IT관 305"));
-        lectureRepository.save(new Lecture(null, "소프트웨어공학", "김미래 교수", "수", "13:00-14:30", "공학관 401"));
-        lectureRepository.save(new Lecture(null, "네트워크", "홍길동 교수", "수", "14:30-16:00", "IT관 202"));
+        lectures.add(new Lecture(null, "운영체제", "정대성 교수", "수", "09:00-10:30", "IT관 305"));
+        lectures.add(new Lecture(null, "소프트웨어공학", "김미래 교수", "수", "13:00-14:30", "공학관 401"));
+        lectures.add(new Lecture(null, "네트워크", "홍길동 교수", "수", "14:30-16:00", "IT관 202"));
         
         // 목요일 강의
-        lectureRepository.save(new Lecture(null, "인공지능", "오지혜 교수", "목", "10:00-12:00", "AI연구소"));
-        lectureRepository.save(new Lecture(null, "컴퓨터구조", "서동욱 교수", "목", "13:00-14:30", "공학관 303"));
+        lectures.add(new Lecture(null, "인공지능", "오지혜 교수", "목", "10:00-12:00", "AI연구소"));
+        lectures.add(new Lecture(null, "컴퓨터구조", "서동욱 교수", "목", "13:00-14:30", "공학관 303"));
         
         // 금요일 강의
-        lectureRepository.save(new Lecture(null, "캡스톤디자인", "장현우 교수", "금", "09:00-12:00", "프로젝트실"));
-        lectureRepository.save(new Lecture(null, "모바일프로그래밍", "안수진 교수", "금", "13:00-15:00", "공학관 502"));
+        lectures.add(new Lecture(null, "캡스톤디자인", "장현우 교수", "금", "09:00-12:00", "프로젝트실"));
+        lectures.add(new Lecture(null, "모바일프로그래밍", "안수진 교수", "금", "13:00-15:00", "공학관 502"));
+        
+        // 강의도 배치 INSERT로 저장한 뒤 (시간표 인덱스 재생성) '다음 수업'의 id를 다시 조회
+        bulkImportService.importLectures(lectures);
+        Lecture nextLecture = lectureRepository.findByDay(todayKorean).stream()
+                .filter(lecture -> lecture.getName().equals("알고리즘") && lecture.getTime().equals(timeRange))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        
+        // 데모 학생(20240001) 수강 신청: 오늘 수업 + 월/수요일 강의
+        String demoStudentId = "20240001";
+        enrollmentRepository.save(new Enrollment(null, demoStudentId, nextLecture.getId()));
+        for (Lecture lecture : lectureRepository.findByDay("월")) {
+            enrollmentRepository.save(new Enrollment(null, demoStudentId, lecture.getId()));
+        }
+        for (Lecture lecture : lectureRepository.findByDay("수")) {
+            enrollmentRepository.save(new Enrollment(null, demoStudentId, lecture.getId()));
+        }
         
-        System.out.println("✅ 시간표 데이터 생성 완료");
+        log.info("✅ 시간표 데이터 생성 완료");
     }
     
     /**
@@ -384,6 +429,6 @@ public class DataLoader implements CommandLineRunner {
             now.minusHours(30)
         ));
         
-        System.out.println("✅ 커뮤니티 데이터 생성 완료 (최신 글 포함)");
+        log.info("✅ 커뮤니티 데이터 생성 완료 (최신 글 포함)");
     }
 }
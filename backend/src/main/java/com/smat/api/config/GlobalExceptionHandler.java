@@ -0,0 +1,38 @@
+package com.smat.api.config;
+
+import com.smat.api.common.ApiException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 공통 예외 처리
+ * 서비스에서 던진 ApiException (400/404/409/503)을 HTTP 상태 코드와 메시지로 변환합니다.
+ * 그 밖의 예외 (직렬화 실패, 잘못된 Optional.get() 등 내부 오류)는 여기서 잡지 않으므로 500으로 응답합니다.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+    
+    /**
+     * 클라이언트 요청 오류 (예외 종류별 상태 코드)
+     */
+    @ExceptionHandler(ApiException.class)
+    public ResponseEntity<Map<String, Object>> handleApiException(ApiException e) {
+        return error(e.getStatus(), e.getMessage());
+    }
+    
+    private ResponseEntity<Map<String, Object>> error(HttpStatus status, String message) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", message);
+        body.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        return ResponseEntity.status(status).body(body);
+    }
+}
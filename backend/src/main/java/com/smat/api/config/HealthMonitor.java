@@ -0,0 +1,266 @@
+package com.smat.api.config;
+
+import com.smat.api.campus.service.MenuSnapshotCache;
+import com.smat.api.community.service.PostSearchIndex;
+import com.smat.api.schedule.service.RoomOccupancyGrid;
+import com.smat.api.schedule.service.ScheduleIndex;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 상태 점검 (readiness/liveness)
+ * DB 왕복 시간, 커넥션 풀 포화, 메모리 캐시 준비 여부, 초기 데이터 로딩 완료를 전용 스레드에서 주기적으로 점검하고
+ * 결과 (응답 본문 포함)를 미리 만들어 둡니다.
+ * 로드밸런서가 초당 여러 번 호출해도 점검 결과만 읽으므로 DB에 쿼리가 쌓이지 않습니다.
+ * 점검이 DB 대기로 멈추면 결과가 오래되어 (점검 주기 x3) 준비 안 됨으로 응답합니다.
+ */
+@Component
+public class HealthMonitor implements HealthIndicator {
+    
+    private static final Map<String, Object> UP = Collections.singletonMap("status", "UP");
+    private static final Map<String, Object> DOWN = Collections.singletonMap("status", "DOWN");
+    
+    private final JdbcTemplate probeTemplate;
+    private final HikariDataSource hikari;
+    private final MenuSnapshotCache menuSnapshotCache;
+    private final ScheduleIndex scheduleIndex;
+    private final RoomOccupancyGrid roomOccupancyGrid;
+    private final PostSearchIndex postSearchIndex;
+    private final ApplicationAvailability availability;
+    private final long intervalMillis;
+    private final long latencyThresholdMillis;
+    
+    // 점검 전용 스레드 (@Scheduled 공용 스레드를 DB 대기로 막지 않도록 분리)
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "health-check");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private volatile boolean dataLoaded;
+    private volatile Result result = Result.NOT_CHECKED;
+    
+    public HealthMonitor(DataSource dataSource,
+                         MenuSnapshotCache menuSnapshotCache,
+                         ScheduleIndex scheduleIndex,
+                         RoomOccupancyGrid roomOccupancyGrid,
+                         PostSearchIndex postSearchIndex,
+                         ApplicationAvailability availability,
+                         @Value("${smat.health.check-interval-ms:2000}") long intervalMillis,
+                         @Value("${smat.health.db-timeout-ms:1000}") int timeoutMillis,
+                         @Value("${smat.health.db-latency-threshold-ms:250}") long latencyThresholdMillis) {
+        this.probeTemplate = new JdbcTemplate(dataSource);
+        this.probeTemplate.setQueryTimeout(Math.max(1, (timeoutMillis + 999) / 1000));
+        this.hikari = unwrapHikari(dataSource);
+        this.menuSnapshotCache = menuSnapshotCache;
+        this.scheduleIndex = scheduleIndex;
+        this.roomOccupancyGrid = roomOccupancyGrid;
+        this.postSearchIndex = postSearchIndex;
+        this.availability = availability;
+        this.intervalMillis = intervalMillis;
+        this.latencyThresholdMillis = latencyThresholdMillis;
+    }
+    
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                check();
+            } catch (RuntimeException e) {
+                // 예외로 반복이 멈추지 않도록 (결과가 갱신되지 않으면 오래된 결과로 준비 안 됨 처리)
+            }
+        }, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+    
+    /**
+     * 초기 데이터 로딩 완료 표시 (DataLoader)
+     */
+    public void markDataLoaded() {
+        dataLoaded = true;
+    }
+    
+    /**
+     * 살아 있는지 (재시작이 필요 없는지)
+     * DB 상태와 무관하게 애플리케이션 자체의 상태만 봅니다. (DB 장애로 전체 인스턴스가 재시작되지 않도록)
+     */
+    public boolean isLive() {
+        return availability.getLivenessState() == LivenessState.CORRECT;
+    }
+    
+    /**
+     * 요청을 받을 수 있는지 (마지막 점검 결과 + 기동 완료 여부)
+     */
+    public boolean isReady() {
+        return result.ready && !isStale() && availability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC;
+    }
+    
+    public Map<String, Object> getLivenessBody() {
+        return isLive() ? UP : DOWN;
+    }
+    
+    /**
+     * 준비 상태 응답 본문 (점검할 때 만들어 둔 것을 그대로 반환)
+     */
+    public Map<String, Object> getReadinessBody() {
+        Result current = result;
+        if (isStale()) {
+            return current.staleBody;
+        }
+        return isReady() ? current.readyBody : current.notReadyBody;
+    }
+    
+    @Override
+    public Health health() {
+        Result current = result;
+        return isReady() ? current.up : current.down;
+    }
+    
+    /**
+     * 한 번 점검하고 결과를 교체
+     */
+    void check() {
+        List<String> failures = new ArrayList<>();
+        
+        // 1. DB 왕복 시간
+        Map<String, Object> database = new LinkedHashMap<>();
+        long started = System.nanoTime();
+        try {
+            probeTemplate.queryForObject("SELECT 1", Integer.class);
+            long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            database.put("status", "UP");
+            database.put("latencyMs", latencyMillis);
+            if (latencyMillis > latencyThresholdMillis) {
+                failures.add("DB 응답 지연 " + latencyMillis + "ms (기준 " + latencyThresholdMillis + "ms)");
+            }
+        } catch (RuntimeException e) {
+            database.put("status", "DOWN");
+            database.put("error", e.getClass().getSimpleName());
+            failures.add("DB 연결 실패");
+        }
+        
+        // 2. 커넥션 풀 포화 (커넥션을 기다리는 스레드가 있으면 포화)
+        Map<String, Object> pool = new LinkedHashMap<>();
+        HikariPoolMXBean poolBean = hikari != null ? hikari.getHikariPoolMXBean() : null;
+        if (poolBean != null) {
+            int active = poolBean.getActiveConnections();
+            int max = hikari.getMaximumPoolSize();
+            int waiting = poolBean.getThreadsAwaitingConnection();
+            pool.put("active", active);
+            pool.put("idle", poolBean.getIdleConnections());
+            pool.put("max", max);
+            pool.put("waiting", waiting);
+            pool.put("saturation", max == 0 ? 0.0 : (double) active / max);
+            if (waiting > 0) {
+                failures.add("커넥션 풀 포화 (대기 " + waiting + ")");
+            }
+        }
+        
+        // 3. 메모리 캐시/인덱스 준비 여부
+        Map<String, Object> caches = new LinkedHashMap<>();
+        caches.put("menuSnapshot", menuSnapshotCache.getBuiltAt() != null);
+        caches.put("scheduleIndex", scheduleIndex.isReady());
+        caches.put("roomOccupancyGrid", roomOccupancyGrid.isReady());
+        caches.put("postSearchIndex", postSearchIndex.isReady());
+        caches.forEach((name, warm) -> {
+            if (!Boolean.TRUE.equals(warm)) {
+                failures.add("캐시 준비 중: " + name);
+            }
+        });
+        
+        // 4. 초기 데이터 로딩
+        if (!dataLoaded) {
+            failures.add("초기 데이터 로딩 중");
+        }
+        
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("checkedAt", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        details.put("dataLoaded", dataLoaded);
+        details.put("database", Collections.unmodifiableMap(database));
+        details.put("connectionPool", Collections.unmodifiableMap(pool));
+        details.put("caches", Collections.unmodifiableMap(caches));
+        details.put("failures", Collections.unmodifiableList(failures));
+        result = new Result(failures.isEmpty(), System.nanoTime(), Collections.unmodifiableMap(details));
+    }
+    
+    private boolean isStale() {
+        Result current = result;
+        return current == Result.NOT_CHECKED
+                || System.nanoTime() - current.checkedAtNanos > TimeUnit.MILLISECONDS.toNanos(intervalMillis * 3);
+    }
+    
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class);
+            }
+        } catch (SQLException e) {
+            // 풀 정보 없이 DB 점검만 수행
+        }
+        return null;
+    }
+    
+    /**
+     * 한 번의 점검 결과와 미리 만든 응답 본문 (불변)
+     */
+    private static final class Result {
+        
+        static final Result NOT_CHECKED = new Result(false, 0,
+                Collections.singletonMap("failures", Collections.singletonList("아직 점검 전")));
+        
+        final boolean ready;
+        final long checkedAtNanos;
+        final Map<String, Object> readyBody;
+        final Map<String, Object> notReadyBody;
+        final Map<String, Object> staleBody;
+        final Health up;
+        final Health down;
+        
+        Result(boolean ready, long checkedAtNanos, Map<String, Object> details) {
+            this.ready = ready;
+            this.checkedAtNanos = checkedAtNanos;
+            this.readyBody = body("UP", null, details);
+            this.notReadyBody = body("DOWN", null, details);
+            this.staleBody = body("DOWN", "상태 점검이 지연되고 있습니다.", details);
+            this.up = Health.up().withDetails(details).build();
+            this.down = Health.down().withDetails(details).build();
+        }
+        
+        private static Map<String, Object> body(String status, String reason, Map<String, Object> details) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("status", status);
+            if (reason != null) {
+                body.put("reason", reason);
+            }
+            body.putAll(details);
+            return Collections.unmodifiableMap(body);
+        }
+    }
+}
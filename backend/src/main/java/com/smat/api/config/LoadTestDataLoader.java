@@ -0,0 +1,508 @@
+package com.smat.api.config;
+
+import com.smat.api.campus.domain.Menu;
+import com.smat.api.campus.domain.Restaurant;
+import com.smat.api.campus.repository.RestaurantRepository;
+import com.smat.api.community.domain.Category;
+import com.smat.api.community.repository.PostRepository;
+import com.smat.api.ingest.service.BulkImportService;
+import com.smat.api.schedule.domain.Lecture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * 부하 테스트용 대량 데이터 생성 (loadtest 프로필에서만 실행)
+ * scale 1.0 기준 게시글 100만 건, 강의 5만 건, 메뉴 2년치, 학생 2만 명의 수강 신청을 만듭니다.
+ * 인기 카테고리/작성자/강의, 개강·시험 기간처럼 실제 서비스와 비슷한 쏠림을 주며, 같은 seed면 항상 같은 데이터가 만들어집니다.
+ * 행 생성은 여러 스레드가 구간(partition)을 나눠서 하고, 저장은 구간 순서대로 JDBC 배치 INSERT로 합니다. (id 순서도 항상 같음)
+ * 캐시 워밍업(ApplicationReadyEvent)보다 먼저 실행되므로, 메뉴 스냅샷/시간표 인덱스/검색 색인은 생성된 데이터로 만들어집니다.
+ */
+@Component
+@Profile("loadtest")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class LoadTestDataLoader implements CommandLineRunner {
+    
+    private static final Logger log = LoggerFactory.getLogger(LoadTestDataLoader.class);
+    
+    // scale 1.0 기준 건수
+    private static final int BASE_POSTS = 1_000_000;
+    private static final int BASE_LECTURES = 50_000;
+    private static final int BASE_MENU_DAYS = 730;
+    private static final int BASE_STUDENTS = 20_000;
+    private static final int BASE_WRITERS = 50_000;
+    private static final int BASE_PROFESSORS = 2_000;
+    
+    // 게시글 작성일 범위 (어제까지 2년, 데모 데이터의 최신 글이 계속 최신으로 보이도록)
+    private static final int POST_DAYS = 730;
+    // 메뉴는 스냅샷 캐시 범위(오늘 ~ 6일 뒤)까지 생성
+    private static final int MENU_DAYS_AHEAD = 6;
+    private static final int MENU_DAYS_PER_PARTITION = 30;
+    
+    // 데이터셋마다 다른 난수열을 쓰도록 seed에 섞는 값
+    private static final int POSTS = 1;
+    private static final int LECTURES = 2;
+    private static final int MENUS = 3;
+    private static final int ENROLLMENTS = 4;
+    
+    private static final String INSERT_POST =
+            "INSERT INTO post (category, title, content, writer, price, current_people, max_people, created_date) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] POST_TYPES = {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.TIMESTAMP};
+    
+    private static final String INSERT_ENROLLMENT = "INSERT INTO enrollment (student_id, lecture_id) VALUES (?, ?)";
+    private static final int[] ENROLLMENT_TYPES = {Types.VARCHAR, Types.BIGINT};
+    
+    // 인기 카테고리: 택시 > 팀원 > 책 (누적 비율)
+    private static final Category[] CATEGORIES = {Category.TAXI, Category.TEAM, Category.BOOK};
+    private static final double[] CATEGORY_WEIGHTS = cumulative(55, 30, 15);
+    
+    // 시간대별 작성 비율 (점심, 저녁 이후에 몰림)
+    private static final double[] HOUR_WEIGHTS = cumulative(
+            2, 1, 1, 1, 1, 1, 2, 4, 6, 7, 8, 10, 14, 12, 9, 8, 9, 11, 14, 15, 14, 12, 8, 4);
+    
+    // 요일별 강의 비율 (월~토, 일요일 강의 없음)
+    private static final String LECTURE_DAYS = "월화수목금토";
+    private static final double[] LECTURE_DAY_WEIGHTS = cumulative(22, 22, 22, 20, 12, 2);
+    // 시작 시각 9시 ~ 18시 (오전 10시 ~ 오후 2시에 몰림)
+    private static final double[] START_HOUR_WEIGHTS = cumulative(10, 14, 14, 9, 13, 14, 10, 7, 5, 4);
+    private static final int[] DURATIONS = {50, 75, 90, 120, 180};
+    private static final double[] DURATION_WEIGHTS = cumulative(25, 35, 25, 10, 5);
+    
+    private static final String[] RESTAURANTS = {
+        "학생식당", "교직원식당", "기숙사식당", "푸드코트", "제2학생식당", "공학관 식당",
+        "인문관 카페테리아", "글로벌빌리지 식당", "체육관 스낵바", "도서관 카페", "의료원 식당", "생활관 B동 식당"
+    };
+    private static final String[] TIME_TYPES = {"조식", "중식", "석식"};
+    private static final String[] MAIN_DISHES = {
+        "김치찌개", "된장찌개", "제육볶음", "돈까스", "치킨마요덮밥", "비빔밥", "불고기", "카레라이스", "짜장면",
+        "짬뽕", "라면", "순두부찌개", "닭갈비", "오므라이스", "갈비탕", "떡볶이", "우동", "쌀국수", "햄버거", "소고기무국"
+    };
+    private static final String[] SIDE_DISHES = {
+        "밥", "샐러드", "김밥", "계란말이", "미니우동", "단무지", "과일", "미역국", "감자튀김", "김치"
+    };
+    
+    private static final String[] SUBJECTS = {
+        "자료구조", "알고리즘", "운영체제", "데이터베이스", "컴퓨터구조", "네트워크", "웹프로그래밍", "인공지능",
+        "소프트웨어공학", "모바일프로그래밍", "캡스톤디자인", "선형대수", "미적분학", "확률과통계", "영어회화",
+        "글쓰기", "채플", "경영학원론", "경제학원론", "심리학개론", "컴파일러", "정보보호", "클라우드컴퓨팅", "머신러닝"
+    };
+    private static final String[] BUILDINGS = {
+        "공학관", "IT관", "인문관", "경상관", "자연과학관", "어학관", "예술관", "AI연구소", "대강당", "체육관"
+    };
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오"};
+    private static final String[] GIVEN_NAMES = {
+        "민준", "서연", "도윤", "하은", "지훈", "수아", "현우", "지민", "예준", "서윤",
+        "건우", "지우", "우진", "채원", "선우", "유진", "시우", "다은", "준서", "소율"
+    };
+    
+    private static final String[] PLACES = {
+        "천안역", "아산역", "천안터미널", "신세계백화점", "두정역", "쌍용역", "KTX천안아산역", "온양온천역",
+        "불당동", "성정동", "기숙사", "정문"
+    };
+    private static final String[] BOOKS = {
+        "자바의 정석", "운영체제 공룡책", "토익 RC/LC 세트", "알고리즘 문제해결전략", "혼자 공부하는 파이썬",
+        "이것이 자바다", "컴퓨터구조론", "데이터베이스 개론", "선형대수학 교재", "미적분학 교재"
+    };
+    private static final String[] TEAMS = {
+        "캡스톤 프로젝트", "공모전", "해커톤", "알고리즘 스터디", "토익 스터디", "사이드 프로젝트", "창업 동아리"
+    };
+    private static final String[] ROLES = {
+        "프론트엔드 개발자", "백엔드 개발자", "디자이너", "기획자", "안드로이드 개발자", "iOS 개발자"
+    };
+    private static final String[] FILLERS = {
+        "편하게 연락주세요.", "댓글 남겨주시면 연락드릴게요.", "선착순입니다.", "시간 조율 가능합니다.",
+        "학교 정문에서 만나요.", "자세한 내용은 쪽지로 문의해주세요.", "늦게 오시는 분은 제외합니다.", "감사합니다!"
+    };
+    
+    private final RestaurantRepository restaurantRepository;
+    private final PostRepository postRepository;
+    private final BulkImportService bulkImportService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final double scale;
+    private final long seed;
+    private final int threads;
+    private final int batchSize;
+    
+    public LoadTestDataLoader(RestaurantRepository restaurantRepository,
+                              PostRepository postRepository,
+                              BulkImportService bulkImportService,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${smat.loadtest.scale:1.0}") double scale,
+                              @Value("${smat.loadtest.seed:20240301}") long seed,
+                              @Value("${smat.loadtest.threads:0}") int threads,
+                              @Value("${smat.loadtest.batch-size:5000}") int batchSize) {
+        this.restaurantRepository = restaurantRepository;
+        this.postRepository = postRepository;
+        this.bulkImportService = bulkImportService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.scale = scale;
+        this.seed = seed;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.batchSize = batchSize;
+    }
+    
+    @Override
+    public void run(String... args) {
+        int posts = scaled(BASE_POSTS);
+        // 영속 DB(MySQL)에서 재기동할 때 중복 생성 방지
+        if (postRepository.count() >= posts) {
+            log.info("✅ [loadtest] 대량 데이터가 이미 존재합니다. 생성을 건너뜁니다.");
+            return;
+        }
+        
+        log.info("🔄 [loadtest] 대량 데이터를 생성합니다... (scale={}, seed={}, threads={})", scale, seed, threads);
+        LocalDate today = LocalDate.now();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-generator-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            generateMenus(executor, today);
+            List<Long> lectureIds = generateLectures(executor);
+            generateEnrollments(executor, lectureIds);
+            generatePosts(executor, today, posts);
+        } finally {
+            executor.shutdownNow();
+        }
+        log.info("🎉 [loadtest] 대량 데이터 생성이 완료되었습니다!");
+    }
+    
+    /**
+     * 메뉴: 식당 12곳 x 하루 3끼, 주말/방학에는 일부 식당만 운영
+     */
+    private void generateMenus(ExecutorService executor, LocalDate today) {
+        Map<String, Long> existing = new HashMap<>();
+        for (Restaurant restaurant : restaurantRepository.findAll()) {
+            existing.put(restaurant.getName(), restaurant.getId());
+        }
+        long[] restaurantIds = new long[RESTAURANTS.length];
+        for (int i = 0; i < RESTAURANTS.length; i++) {
+            Long id = existing.get(RESTAURANTS[i]);
+            restaurantIds[i] = id != null ? id : restaurantRepository.save(new Restaurant(null, RESTAURANTS[i])).getId();
+        }
+        
+        int days = scaled(BASE_MENU_DAYS);
+        LocalDate firstDay = today.plusDays(MENU_DAYS_AHEAD).minusDays(days - 1);
+        int partitions = (days + MENU_DAYS_PER_PARTITION - 1) / MENU_DAYS_PER_PARTITION;
+        
+        generate("메뉴", executor, partitions, partition -> {
+            SplittableRandom random = random(MENUS, partition);
+            List<Menu> menus = new ArrayList<>();
+            int from = partition * MENU_DAYS_PER_PARTITION;
+            int to = Math.min(days, from + MENU_DAYS_PER_PARTITION);
+            for (int day = from; day < to; day++) {
+                LocalDate date = firstDay.plusDays(day);
+                double weight = dayWeight(date);
+                // 붐비는 날은 운영 식당/메뉴 수가 많음
+                int open = weight < 1 ? RESTAURANTS.length / 3 : RESTAURANTS.length;
+                for (int r = 0; r < open; r++) {
+                    for (String timeType : TIME_TYPES) {
+                        int items = menuCount(random, timeType, weight);
+                        for (int i = 0; i < items; i++) {
+                            menus.add(new Menu(null, date, timeType, menuName(random), 3000 + 500 * random.nextInt(10),
+                                    restaurantIds[r]));
+                        }
+                    }
+                }
+            }
+            return menus;
+        }, bulkImportService::insertMenus);
+    }
+    
+    /**
+     * 강의: 인기 과목/교수 쏠림, 월~목 오전 10시 ~ 오후 2시에 몰림
+     */
+    private List<Long> generateLectures(ExecutorService executor) {
+        Long lastId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM lecture", Long.class);
+        int lectures = scaled(BASE_LECTURES);
+        int professors = Math.max(1, scaled(BASE_PROFESSORS));
+        
+        generate("강의", executor, partitions(lectures), partition -> {
+            SplittableRandom random = random(LECTURES, partition);
+            int from = partition * batchSize;
+            int to = Math.min(lectures, from + batchSize);
+            List<Lecture> batch = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                String name = SUBJECTS[skewed(random, SUBJECTS.length, 1.5)] + " " + (1 + random.nextInt(40)) + "분반";
+                int professor = skewed(random, professors, 2.0);
+                String professorName = SURNAMES[professor % SURNAMES.length]
+                        + GIVEN_NAMES[(professor / SURNAMES.length) % GIVEN_NAMES.length] + " 교수";
+                String day = String.valueOf(LECTURE_DAYS.charAt(weighted(random, LECTURE_DAY_WEIGHTS)));
+                int start = (9 + weighted(random, START_HOUR_WEIGHTS)) * 60 + (random.nextBoolean() ? 30 : 0);
+                int end = Math.min(start + DURATIONS[weighted(random, DURATION_WEIGHTS)], 22 * 60);
+                String room = BUILDINGS[skewed(random, BUILDINGS.length, 1.5)] + " "
+                        + (1 + random.nextInt(6)) + String.format("%02d", 1 + random.nextInt(20));
+                batch.add(new Lecture(null, name, professorName, day, hhmm(start) + "-" + hhmm(end), room));
+            }
+            return batch;
+        }, bulkImportService::insertLectures);
+        
+        return jdbcTemplate.queryForList("SELECT id FROM lecture WHERE id > ? ORDER BY id", Long.class, lastId);
+    }
+    
+    /**
+     * 수강 신청: 학생마다 4~7과목, 인기 강의에 몰림
+     */
+    private void generateEnrollments(ExecutorService executor, List<Long> lectureIds) {
+        if (lectureIds.isEmpty()) {
+            return;
+        }
+        int students = scaled(BASE_STUDENTS);
+        // 학생 한 명당 평균 5.5건이므로 batch 크기에 맞춰 학생 수로 나눔
+        int studentsPerPartition = Math.max(1, batchSize / 6);
+        int partitions = (students + studentsPerPartition - 1) / studentsPerPartition;
+        
+        generate("수강 신청", executor, partitions, partition -> {
+            SplittableRandom random = random(ENROLLMENTS, partition);
+            int from = partition * studentsPerPartition;
+            int to = Math.min(students, from + studentsPerPartition);
+            List<Object[]> batch = new ArrayList<>();
+            for (int student = from; student < to; student++) {
+                String studentId = String.format("3%07d", student);
+                int count = 4 + random.nextInt(4);
+                Set<Long> taken = new HashSet<>();
+                while (taken.size() < Math.min(count, lectureIds.size())) {
+                    Long lectureId = lectureIds.get(skewed(random, lectureIds.size(), 2.0));
+                    if (taken.add(lectureId)) {
+                        batch.add(new Object[]{studentId, lectureId});
+                    }
+                }
+            }
+            return batch;
+        }, batch -> insert(INSERT_ENROLLMENT, batch, ENROLLMENT_TYPES));
+    }
+    
+    /**
+     * 게시글: 인기 카테고리/작성자 쏠림, 개강·시험 기간과 점심/저녁 시간대에 몰림
+     */
+    private void generatePosts(ExecutorService executor, LocalDate today, int posts) {
+        int writers = Math.max(1, scaled(BASE_WRITERS));
+        LocalDate firstDay = today.minusDays(POST_DAYS);
+        double[] weights = new double[POST_DAYS];
+        for (int day = 0; day < POST_DAYS; day++) {
+            weights[day] = dayWeight(firstDay.plusDays(day));
+        }
+        double[] dayWeights = cumulative(weights);
+        
+        generate("게시글", executor, partitions(posts), partition -> {
+            SplittableRandom random = random(POSTS, partition);
+            int from = partition * batchSize;
+            int to = Math.min(posts, from + batchSize);
+            List<Object[]> batch = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                LocalDateTime createdDate = firstDay.plusDays(weighted(random, dayWeights))
+                        .atTime(weighted(random, HOUR_WEIGHTS), random.nextInt(60), random.nextInt(60));
+                String writer = "사용자" + skewed(random, writers, 3.0);
+                batch.add(post(random, CATEGORIES[weighted(random, CATEGORY_WEIGHTS)], writer, createdDate));
+            }
+            return batch;
+        }, batch -> insert(INSERT_POST, batch, POST_TYPES));
+    }
+    
+    private static Object[] post(SplittableRandom random, Category category, String writer, LocalDateTime createdDate) {
+        String title;
+        String content;
+        Integer price = null;
+        Integer currentPeople = null;
+        Integer maxPeople = null;
+        switch (category) {
+            case TAXI:
+                String place = PLACES[skewed(random, PLACES.length, 2.0)];
+                maxPeople = 3 + random.nextInt(2);
+                currentPeople = 1 + random.nextInt(maxPeople);
+                price = 2000 + 500 * random.nextInt(13);
+                title = place + " " + maxPeople + "명 모집";
+                content = (8 + random.nextInt(14)) + "시쯤 " + place + " 가실 분 구합니다. 택시비 나눠내요.";
+                break;
+            case BOOK:
+                String book = BOOKS[skewed(random, BOOKS.length, 1.5)];
+                price = 5000 + 1000 * random.nextInt(36);
+                title = book + (random.nextInt(3) == 0 ? " 삽니다" : " 팝니다");
+                content = book + " 거래합니다. 상태는 " + (random.nextBoolean() ? "좋아요" : "보통이고 필기 조금 있어요") + ".";
+                break;
+            default:
+                String team = TEAMS[skewed(random, TEAMS.length, 1.5)];
+                String role = ROLES[random.nextInt(ROLES.length)];
+                maxPeople = 3 + random.nextInt(4);
+                currentPeople = 1 + random.nextInt(maxPeople);
+                title = team + " " + role + " 구합니다";
+                content = team + " 함께하실 " + role + " 찾습니다. 현재 " + currentPeople + "명입니다.";
+                break;
+        }
+        
+        // 본문 길이도 제각각 (검색 색인 크기가 실제와 비슷하도록)
+        StringBuilder body = new StringBuilder(content);
+        for (int i = random.nextInt(4); i > 0; i--) {
+            body.append(' ').append(FILLERS[random.nextInt(FILLERS.length)]);
+        }
+        return new Object[]{category.name(), title, body.toString(), writer, price, currentPeople, maxPeople,
+                Timestamp.valueOf(createdDate)};
+    }
+    
+    /**
+     * 구간별 생성은 스레드 풀에서 병렬로, 저장은 구간 순서대로
+     * 메모리를 넘지 않도록 동시에 생성 중인 구간은 스레드 수의 2배까지만 둡니다.
+     */
+    private <T> void generate(String name, ExecutorService executor, int partitions,
+                              IntFunction<List<T>> generator, Consumer<List<T>> writer) {
+        long startedAt = System.nanoTime();
+        Deque<Future<List<T>>> inFlight = new ArrayDeque<>();
+        int next = 0;
+        long rows = 0;
+        while (next < partitions || !inFlight.isEmpty()) {
+            while (next < partitions && inFlight.size() < threads * 2) {
+                int partition = next++;
+                inFlight.add(executor.submit(() -> generator.apply(partition)));
+            }
+            List<T> batch = await(inFlight.poll());
+            if (!batch.isEmpty()) {
+                writer.accept(batch);
+            }
+            rows += batch.size();
+        }
+        
+        long elapsedMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), 1);
+        log.info("✅ [loadtest] {} {}건 생성 완료 ({}ms, {}건/초)", name, rows, elapsedMillis, rows * 1000 / elapsedMillis);
+    }
+    
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("대량 데이터 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("대량 데이터 생성에 실패했습니다.", e.getCause());
+        }
+    }
+    
+    private void insert(String sql, List<Object[]> batch, int[] argTypes) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, batch, argTypes));
+    }
+    
+    private int scaled(int base) {
+        return (int) Math.round(base * scale);
+    }
+    
+    private int partitions(int rows) {
+        return (rows + batchSize - 1) / batchSize;
+    }
+    
+    /**
+     * 구간별 난수 (스레드 수와 상관없이 같은 seed면 같은 결과)
+     */
+    private SplittableRandom random(int dataset, int partition) {
+        return new SplittableRandom(seed * 31 + ((long) dataset << 32) + partition);
+    }
+    
+    /**
+     * 날짜별 쏠림 (개강 > 시험 기간 > 평소 > 주말 > 방학)
+     */
+    private static double dayWeight(LocalDate date) {
+        int month = date.getMonthValue();
+        int day = date.getDayOfMonth();
+        double weight;
+        if ((month == 3 || month == 9) && day <= 14) {
+            weight = 4.0;
+        } else if (((month == 4 || month == 10) && day >= 20) || ((month == 6 || month == 12) && day >= 10 && day <= 21)) {
+            weight = 2.5;
+        } else if (month == 1 || month == 2 || month == 7 || month == 8) {
+            weight = 0.4;
+        } else {
+            weight = 1.0;
+        }
+        if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            weight *= 0.6;
+        }
+        return weight;
+    }
+    
+    private static int menuCount(SplittableRandom random, String timeType, double weight) {
+        int base;
+        if ("중식".equals(timeType)) {
+            base = 3 + random.nextInt(3);
+        } else if ("석식".equals(timeType)) {
+            base = 2 + random.nextInt(2);
+        } else {
+            base = 1 + random.nextInt(2);
+        }
+        return weight >= 2.5 ? base + 1 : base;
+    }
+    
+    private static String menuName(SplittableRandom random) {
+        String main = MAIN_DISHES[skewed(random, MAIN_DISHES.length, 1.5)];
+        if (random.nextBoolean()) {
+            return main;
+        }
+        return main + "+" + SIDE_DISHES[random.nextInt(SIDE_DISHES.length)];
+    }
+    
+    private static String hhmm(int minute) {
+        return String.format("%02d:%02d", minute / 60, minute % 60);
+    }
+    
+    /**
+     * 0 ~ n-1 중 앞쪽(인기 항목)에 몰리도록 뽑기 (exponent가 클수록 쏠림이 심함)
+     */
+    private static int skewed(SplittableRandom random, int n, double exponent) {
+        return Math.min(n - 1, (int) (n * Math.pow(random.nextDouble(), exponent)));
+    }
+    
+    /**
+     * 누적 비율 배열에서 뽑기
+     */
+    private static int weighted(SplittableRandom random, double[] cumulative) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        return Math.min(index >= 0 ? index + 1 : -index - 1, cumulative.length - 1);
+    }
+    
+    private static double[] cumulative(double... weights) {
+        double[] cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        return cumulative;
+    }
+}
@@ -0,0 +1,287 @@
+package com.smat.api.config;
+
+import com.smat.api.campus.service.MenuSnapshotCache;
+import com.smat.api.common.JsonResponseCache;
+import com.smat.api.common.SingleFlight;
+import com.smat.api.common.StatementCounter;
+import com.smat.api.schedule.service.StudentScheduleCache;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTagsContributor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.BaseStream;
+
+/**
+ * 운영 지표 (Actuator + Micrometer, /actuator/prometheus)
+ * Spring Boot 기본 지표 (HTTP 요청, Spring Data 저장소 호출, Hibernate 통계, HikariCP 커넥션 풀)에
+ * 어느 기능 영역 (campus/schedule/community ...)에서 생긴 부하인지 구분하는 area 태그를 붙이고,
+ * 요청당 SQL 수, 저장소 메서드별 행 수, 애플리케이션 캐시 적중률을 추가로 기록합니다.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+    
+    private static final String AREA = "area";
+    private static final String OTHER_AREA = "other";
+    // URL (/api/{영역}/...)과 패키지 (com.smat.api.{영역}...)에서 쓰는 영역 이름
+    private static final Set<String> AREAS = Set.of("campus", "schedule", "community", "home", "import");
+    private static final String BASE_PACKAGE = "com.smat.api.";
+    
+    // MeterRegistry가 이 설정의 MeterBinder를 주입받으므로 지연 조회
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    
+    public MetricsConfig(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    /**
+     * HTTP 요청 지표 (http.server.requests)에 영역과 컨트롤러 메서드 태그 추가
+     */
+    @Bean
+    public WebMvcTagsContributor apiAreaTagsContributor() {
+        return new WebMvcTagsContributor() {
+            @Override
+            public Iterable<Tag> getTags(HttpServletRequest request, HttpServletResponse response,
+                                         Object handler, Throwable exception) {
+                return Tags.of(AREA, areaOf(request), "handler", handlerName(handler));
+            }
+            
+            @Override
+            public Iterable<Tag> getLongRequestTags(HttpServletRequest request, Object handler) {
+                return Tags.of(AREA, areaOf(request));
+            }
+        };
+    }
+    
+    /**
+     * 저장소 메서드 실행 시간 지표 (spring.data.repository.invocations)에 영역 태그 추가
+     */
+    @Bean
+    public RepositoryTagsProvider repositoryTagsProvider() {
+        DefaultRepositoryTagsProvider defaults = new DefaultRepositoryTagsProvider();
+        return invocation -> Tags.of(defaults.repositoryTags(invocation))
+                .and(AREA, areaOfPackage(invocation.getRepositoryInterface()));
+    }
+    
+    /**
+     * 저장소 메서드가 돌려준 (수정 쿼리는 변경한) 행 수 기록 (smat.repository.rows)
+     * 저장소 프록시마다 행 수를 세는 인터셉터를 추가합니다.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryRowCountPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport) {
+                    ((RepositoryFactoryBeanSupport<?, ?, ?>) bean).addRepositoryFactoryCustomizer(factory ->
+                            factory.addRepositoryProxyPostProcessor((proxyFactory, information) ->
+                                    proxyFactory.addAdvice(new RowCountInterceptor(meterRegistry,
+                                            information.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+    
+    /**
+     * Hibernate가 준비하는 SQL 수를 스레드별로 세도록 등록
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+    }
+    
+    /**
+     * 애플리케이션 메모리 캐시의 적중/미적중 횟수 (cache.gets, Micrometer 캐시 지표와 같은 이름/태그)
+     * 동일 조회 합치기의 실행/합쳐진 횟수
+     */
+    @Bean
+    public MeterBinder applicationCacheMetrics(JsonResponseCache jsonResponseCache,
+                                               MenuSnapshotCache menuSnapshotCache,
+                                               StudentScheduleCache studentScheduleCache,
+                                               SingleFlight singleFlight) {
+        return registry -> {
+            cacheGets(registry, "json-response", jsonResponseCache,
+                    JsonResponseCache::getHitCount, JsonResponseCache::getMissCount);
+            cacheGets(registry, "menu-snapshot", menuSnapshotCache,
+                    MenuSnapshotCache::getHitCount, MenuSnapshotCache::getMissCount);
+            cacheGets(registry, "student-schedule", studentScheduleCache,
+                    StudentScheduleCache::getHitCount, StudentScheduleCache::getMissCount);
+            FunctionCounter.builder("cache.evictions", studentScheduleCache, StudentScheduleCache::getEvictionCount)
+                    .tag("cache", "student-schedule")
+                    .register(registry);
+            Gauge.builder("cache.size", studentScheduleCache, StudentScheduleCache::size)
+                    .tag("cache", "student-schedule")
+                    .register(registry);
+            
+            FunctionCounter.builder("smat.single.flight.calls", singleFlight, SingleFlight::getExecutionCount)
+                    .description("실제로 실행된 조회")
+                    .tag("result", "executed")
+                    .register(registry);
+            FunctionCounter.builder("smat.single.flight.calls", singleFlight, SingleFlight::getCoalescedCount)
+                    .description("실행 중인 조회에 합쳐져 쿼리 없이 결과를 받은 조회")
+                    .tag("result", "coalesced")
+                    .register(registry);
+            Gauge.builder("smat.single.flight.in.flight", singleFlight, SingleFlight::getInFlightCount)
+                    .register(registry);
+        };
+    }
+    
+    /**
+     * 요청 한 번에 실행된 SQL 수 기록 (smat.http.statements)
+     * 요청 스레드에서 실행된 SQL만 셉니다. (홈 화면처럼 다른 스레드에서 조회하는 부분은 제외)
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                StatementCounter.reset();
+                return true;
+            }
+            
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                        Object handler, Exception ex) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                DistributionSummary.builder("smat.http.statements")
+                        .description("요청당 실행된 SQL 수")
+                        .tags(AREA, areaOf(request), "method", request.getMethod(),
+                                "uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                        .register(meterRegistry.getObject())
+                        .record(StatementCounter.get());
+            }
+        }).addPathPatterns("/api/**");
+    }
+    
+    private static <T> void cacheGets(MeterRegistry registry, String cache, T source,
+                                      ToDoubleFunction<T> hits, ToDoubleFunction<T> misses) {
+        FunctionCounter.builder("cache.gets", source, hits)
+                .tags("cache", cache, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", source, misses)
+                .tags("cache", cache, "result", "miss")
+                .register(registry);
+    }
+    
+    /**
+     * 요청 URL의 영역 (/api/campus/menus -> campus)
+     */
+    private static String areaOf(HttpServletRequest request) {
+        String[] segments = request.getRequestURI().split("/", 4);
+        if (segments.length >= 3 && "api".equals(segments[1]) && AREAS.contains(segments[2])) {
+            return segments[2];
+        }
+        return OTHER_AREA;
+    }
+    
+    /**
+     * 저장소 패키지의 영역 (com.smat.api.campus.repository -> campus)
+     */
+    private static String areaOfPackage(Class<?> type) {
+        String packageName = type.getPackageName();
+        if (packageName.startsWith(BASE_PACKAGE)) {
+            String area = packageName.substring(BASE_PACKAGE.length()).split("\\.")[0];
+            if (AREAS.contains(area)) {
+                return area;
+            }
+        }
+        return OTHER_AREA;
+    }
+    
+    private static String handlerName(Object handler) {
+        if (handler instanceof HandlerMethod) {
+            HandlerMethod method = (HandlerMethod) handler;
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        return "none";
+    }
+    
+    /**
+     * 저장소 메서드 결과의 행 수를 기록하는 인터셉터
+     */
+    private static final class RowCountInterceptor implements MethodInterceptor {
+        
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private final String repository;
+        private final String area;
+        
+        RowCountInterceptor(ObjectProvider<MeterRegistry> meterRegistry, Class<?> repositoryInterface) {
+            this.meterRegistry = meterRegistry;
+            this.repository = repositoryInterface.getSimpleName();
+            this.area = areaOfPackage(repositoryInterface);
+        }
+        
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Object result = invocation.proceed();
+            long rows = rows(invocation, result);
+            if (rows >= 0) {
+                DistributionSummary.builder("smat.repository.rows")
+                        .description("저장소 메서드가 읽거나 변경한 행 수")
+                        .baseUnit("rows")
+                        .tags("repository", repository, "method", invocation.getMethod().getName(), AREA, area)
+                        .register(meterRegistry.getObject())
+                        .record(rows);
+            }
+            return result;
+        }
+        
+        /**
+         * 결과의 행 수 (count/exists 처럼 행이 아닌 결과, Stream, void는 -1)
+         */
+        private static long rows(MethodInvocation invocation, Object result) {
+            if (invocation.getMethod().getReturnType() == void.class) {
+                return -1;
+            }
+            if (invocation.getMethod().isAnnotationPresent(Modifying.class)) {
+                return result instanceof Number ? ((Number) result).longValue() : -1;
+            }
+            if (result == null) {
+                return 0;
+            }
+            if (result instanceof Collection) {
+                return ((Collection<?>) result).size();
+            }
+            if (result instanceof Slice) {
+                return ((Slice<?>) result).getNumberOfElements();
+            }
+            if (result instanceof Optional) {
+                return ((Optional<?>) result).isPresent() ? 1 : 0;
+            }
+            if (result instanceof Number || result instanceof Boolean || result instanceof Iterable
+                    || result instanceof BaseStream) {
+                return -1;
+            }
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.smat.api.config;
+
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 느린 쿼리 로그 (prod 프로필)
+ * DataSource를 datasource-proxy로 감싸, 기준 시간보다 오래 걸린 SQL만 바인드 파라미터와 함께 WARN으로 남깁니다.
+ * 실행 중인 쿼리도 기준 시간을 넘는 순간 기록되므로, 끝나지 않는 쿼리도 로그에서 확인할 수 있습니다.
+ * 빠른 쿼리는 기록하지 않으므로 show-sql처럼 요청마다 콘솔에 쓰지 않습니다.
+ */
+@Configuration
+@Profile("prod")
+public class SlowQueryLogConfig {
+    
+    // logging.level.com.smat.api.sql.slow-query 로 따로 조절 가능
+    static final String LOGGER_NAME = "com.smat.api.sql.slow-query";
+    
+    @Bean
+    public static BeanPostProcessor slowQueryLogDataSourcePostProcessor(
+            @Value("${smat.sql.slow-query-threshold-ms:200}") long thresholdMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create((DataSource) bean)
+                            .name(beanName)
+                            .logSlowQueryBySlf4j(thresholdMillis, TimeUnit.MILLISECONDS, SLF4JLogLevel.WARN, LOGGER_NAME)
+                            .asJson()
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.smat.api.home.controller;
+
+import com.smat.api.common.DataAggregate;
+import com.smat.api.common.DataVersions;
+import com.smat.api.home.dto.HomeResponseDto;
+import com.smat.api.home.service.HomeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+@Tag(name = "홈", description = "홈 화면 API")
+@RestController
+@RequestMapping("/api/home")
+public class HomeController {
+    
+    private final HomeService homeService;
+    private final DataVersions dataVersions;
+    private final Clock clock;
+    
+    public HomeController(HomeService homeService, DataVersions dataVersions, Clock clock) {
+        this.homeService = homeService;
+        this.dataVersions = dataVersions;
+        this.clock = clock;
+    }
+    
+    /**
+     * 홈 화면 데이터를 한 번에 조회하는 API
+     * 오늘 학식, 다음 수업, 최신 게시글을 동시에 조회해 하나의 응답으로 반환합니다.
+     * 일부 항목이 제한 시간 안에 조회되지 않으면 partial=true와 함께 나머지만 반환합니다.
+     * 
+     * @return 홈 화면 통합 응답
+     */
+    @Operation(summary = "홈 화면 조회", description = "오늘 학식, 다음 수업, 최신 게시글을 한 번에 조회합니다. 실패한 항목은 failedSections에 표시됩니다.")
+    @GetMapping
+    public ResponseEntity<HomeResponseDto> getHome(WebRequest webRequest) {
+        String etag = dataVersions.etag(DataAggregate.MENU, DataAggregate.LECTURE, DataAggregate.POST,
+                LocalDateTime.now(clock).truncatedTo(ChronoUnit.MINUTES));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        
+        HomeResponseDto home = homeService.getHome();
+        if (home.isPartial()) {
+            // 일부 항목이 빠진 응답은 저장되지 않도록 no-store (저장되지 않으면 ETag로 재사용되지도 않음)
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(home);
+        }
+        return ResponseEntity.ok(home);
+    }
+}
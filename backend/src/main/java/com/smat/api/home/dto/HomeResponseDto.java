@@ -0,0 +1,73 @@
+package com.smat.api.home.dto;
+
+import com.smat.api.campus.dto.MenuResponseDto;
+import com.smat.api.community.dto.PostSummaryDto;
+import com.smat.api.schedule.dto.LectureResponseDto;
+
+import java.util.List;
+
+/**
+ * 홈 화면 통합 응답 (partial이면 failedSections에 실패/시간 초과한 항목이 담기고 해당 값은 null)
+ */
+public class HomeResponseDto {
+    
+    private List<MenuResponseDto> todayMenus;
+    private LectureResponseDto nextLecture;
+    private List<PostSummaryDto> recentPosts;
+    private boolean partial;
+    private List<String> failedSections;
+    
+    // 기본 생성자
+    public HomeResponseDto() {
+    }
+    
+    // 생성자
+    public HomeResponseDto(List<MenuResponseDto> todayMenus, LectureResponseDto nextLecture, List<PostSummaryDto> recentPosts, boolean partial, List<String> failedSections) {
+        this.todayMenus = todayMenus;
+        this.nextLecture = nextLecture;
+        this.recentPosts = recentPosts;
+        this.partial = partial;
+        this.failedSections = failedSections;
+    }
+    
+    // Getter & Setter
+    public List<MenuResponseDto> getTodayMenus() {
+        return todayMenus;
+    }
+    
+    public void setTodayMenus(List<MenuResponseDto> todayMenus) {
+        this.todayMenus = todayMenus;
+    }
+    
+    public LectureResponseDto getNextLecture() {
+        return nextLecture;
+    }
+    
+    public void setNextLecture(LectureResponseDto nextLecture) {
+        this.nextLecture = nextLecture;
+    }
+    
+    public List<PostSummaryDto> getRecentPosts() {
+        return recentPosts;
+    }
+    
+    public void setRecentPosts(List<PostSummaryDto> recentPosts) {
+        this.recentPosts = recentPosts;
+    }
+    
+    public boolean isPartial() {
+        return partial;
+    }
+    
+    public void setPartial(boolean partial) {
+        this.partial = partial;
+    }
+    
+    public List<String> getFailedSections() {
+        return failedSections;
+    }
+    
+    public void setFailedSections(List<String> failedSections) {
+        this.failedSections = failedSections;
+    }
+}
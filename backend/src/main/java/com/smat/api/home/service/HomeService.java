@@ -0,0 +1,137 @@
+package com.smat.api.home.service;
+
+import com.smat.api.campus.dto.MenuResponseDto;
+import com.smat.api.campus.service.CampusService;
+import com.smat.api.community.dto.PostSummaryDto;
+import com.smat.api.community.service.CommunityService;
+import com.smat.api.home.dto.HomeResponseDto;
+import com.smat.api.schedule.dto.LectureResponseDto;
+import com.smat.api.schedule.service.ScheduleService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 홈 화면 통합 조회
+ * 오늘 학식, 다음 수업, 최신 게시글을 제한된 스레드 풀에서 동시에 조회해 한 번에 반환합니다.
+ * 항목별로 제한 시간이 있으며, 시간 안에 끝나지 않거나 실패한 항목은 비워 두고 나머지만 응답합니다.
+ * 시간 초과한 항목의 작업은 취소(인터럽트)해, 응답이 나간 뒤에도 스레드 풀을 계속 차지하지 않도록 합니다.
+ */
+@Service
+public class HomeService {
+    
+    static final String TODAY_MENUS = "todayMenus";
+    static final String NEXT_LECTURE = "nextLecture";
+    static final String RECENT_POSTS = "recentPosts";
+    
+    private final CampusService campusService;
+    private final ScheduleService scheduleService;
+    private final CommunityService communityService;
+    private final long sectionTimeoutMillis;
+    
+    // 스레드 수와 대기열을 제한하고, 가득 차면 바로 거절 (거절된 항목은 실패로 처리)
+    private final ThreadPoolExecutor executor;
+    
+    public HomeService(CampusService campusService,
+                       ScheduleService scheduleService,
+                       CommunityService communityService,
+                       @Value("${smat.home.section-timeout-ms:500}") long sectionTimeoutMillis,
+                       @Value("${smat.home.executor.threads:8}") int threads,
+                       @Value("${smat.home.executor.queue-capacity:100}") int queueCapacity) {
+        this.campusService = campusService;
+        this.scheduleService = scheduleService;
+        this.communityService = communityService;
+        this.sectionTimeoutMillis = sectionTimeoutMillis;
+        
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "home-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+    
+    /**
+     * 홈 화면 데이터 조회
+     * 세 항목을 동시에 시작하므로 응답 시간은 가장 느린 항목 (최대 제한 시간) 기준입니다.
+     * 
+     * @return 홈 화면 통합 응답
+     */
+    public HomeResponseDto getHome() {
+        CompletableFuture<List<MenuResponseDto>> menus = submit(campusService::getTodayMenus);
+        CompletableFuture<LectureResponseDto> nextLecture = submit(scheduleService::getNextLecture);
+        CompletableFuture<List<PostSummaryDto>> recentPosts = submit(communityService::getRecentPosts);
+        
+        List<String> failedSections = new ArrayList<>();
+        HomeResponseDto home = new HomeResponseDto();
+        home.setTodayMenus(await(menus, TODAY_MENUS, failedSections));
+        home.setNextLecture(await(nextLecture, NEXT_LECTURE, failedSections));
+        home.setRecentPosts(await(recentPosts, RECENT_POSTS, failedSections));
+        home.setPartial(!failedSections.isEmpty());
+        home.setFailedSections(failedSections);
+        return home;
+    }
+    
+    /**
+     * 스레드 풀에서 실행하고 제한 시간을 적용
+     * CompletableFuture.cancel()은 실행 중인 작업을 멈추지 못하므로, 시간 초과 시 풀에 제출한 작업 (Future)을 직접 취소합니다.
+     * (대기열에 있던 작업은 실행되지 않고, 실행 중인 작업은 인터럽트됨)
+     */
+    private <T> CompletableFuture<T> submit(Supplier<T> section) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.complete(section.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 스레드 풀이 가득 차서 거절된 경우
+            result.completeExceptionally(e);
+            return result;
+        }
+        result.orTimeout(sectionTimeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((value, e) -> {
+                    if (e instanceof TimeoutException) {
+                        task.cancel(true);
+                    }
+                });
+        return result;
+    }
+    
+    /**
+     * 결과를 기다림 (실패하거나 시간 초과면 null, 항목 이름을 기록)
+     */
+    private <T> T await(CompletableFuture<T> future, String section, List<String> failedSections) {
+        try {
+            return future.join();
+        } catch (RuntimeException e) {
+            failedSections.add(section);
+            return null;
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
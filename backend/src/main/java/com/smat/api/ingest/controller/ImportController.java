@@ -0,0 +1,75 @@
+package com.smat.api.ingest.controller;
+
+import com.smat.api.ingest.dto.ImportResultDto;
+import com.smat.api.ingest.service.BulkImportService;
+import com.smat.api.ingest.service.ImportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+
+@Tag(name = "데이터 가져오기", description = "학식 메뉴/강의 대량 등록 API")
+@RestController
+@RequestMapping("/api/import")
+public class ImportController {
+    
+    private static final String TEXT_CSV = "text/csv";
+    
+    private final BulkImportService bulkImportService;
+    
+    public ImportController(BulkImportService bulkImportService) {
+        this.bulkImportService = bulkImportService;
+    }
+    
+    /**
+     * 학식 메뉴 대량 등록 API
+     * 요청 본문을 스트리밍으로 읽어 배치 INSERT합니다. (Content-Type: text/csv 또는 application/json)
+     * 
+     * @param request 요청 (본문이 파일 내용)
+     * @return 가져오기 결과 (처리 행 수, 초당 처리 행 수)
+     */
+    @Operation(summary = "학식 메뉴 가져오기", description = "CSV(첫 줄 헤더) 또는 JSON 배열로 메뉴를 대량 등록합니다. "
+            + "컬럼: date, timeType, menuName, price, restaurant(식당명) 또는 restaurantId")
+    @RequestBody(content = {
+        @Content(mediaType = TEXT_CSV, schema = @Schema(type = "string",
+                example = "date,timeType,menuName,price,restaurant\n2024-03-04,중식,김치찌개,5000,학생식당")),
+        @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(type = "string",
+                example = "[{\"date\":\"2024-03-04\",\"timeType\":\"중식\",\"menuName\":\"김치찌개\",\"price\":5000,\"restaurant\":\"학생식당\"}]"))
+    })
+    @PostMapping(value = "/menus", consumes = {TEXT_CSV, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ImportResultDto> importMenus(HttpServletRequest request) throws IOException {
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+        ImportResultDto result = bulkImportService.importMenus(request.getInputStream(), format);
+        return ResponseEntity.ok(result);
+    }
+    
+    /**
+     * 강의 대량 등록 API
+     * 
+     * @param request 요청 (본문이 파일 내용)
+     * @return 가져오기 결과 (처리 행 수, 초당 처리 행 수)
+     */
+    @Operation(summary = "강의 가져오기", description = "CSV(첫 줄 헤더) 또는 JSON 배열로 강의를 대량 등록합니다. "
+            + "컬럼: name, professor, day(월~일), time(HH:mm-HH:mm), room")
+    @RequestBody(content = {
+        @Content(mediaType = TEXT_CSV, schema = @Schema(type = "string",
+                example = "name,professor,day,time,room\n자료구조,김철수 교수,월,09:00-10:30,공학관 301")),
+        @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(type = "string",
+                example = "[{\"name\":\"자료구조\",\"professor\":\"김철수 교수\",\"day\":\"월\",\"time\":\"09:00-10:30\",\"room\":\"공학관 301\"}]"))
+    })
+    @PostMapping(value = "/lectures", consumes = {TEXT_CSV, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ImportResultDto> importLectures(HttpServletRequest request) throws IOException {
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+        ImportResultDto result = bulkImportService.importLectures(request.getInputStream(), format);
+        return ResponseEntity.ok(result);
+    }
+}
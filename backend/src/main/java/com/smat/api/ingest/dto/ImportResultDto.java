@@ -0,0 +1,110 @@
+package com.smat.api.ingest.dto;
+
+import java.util.List;
+
+/**
+ * 대량 가져오기 결과 (처리 속도 포함, errors는 건너뛴 행과 저장에 실패한 chunk의 사유 일부)
+ * 저장에 실패한 chunk의 행은 failedRows로 따로 세며, 나머지 chunk는 그대로 커밋됩니다.
+ */
+public class ImportResultDto {
+    
+    private String target;
+    private long importedRows;
+    private long skippedRows;
+    private long failedRows;
+    private int chunks;
+    private int failedChunks;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+    private List<String> errors;
+    
+    // 기본 생성자
+    public ImportResultDto() {
+    }
+    
+    // 생성자
+    public ImportResultDto(String target, long importedRows, long skippedRows, long failedRows, int chunks, int failedChunks, long elapsedMillis, long rowsPerSecond, List<String> errors) {
+        this.target = target;
+        this.importedRows = importedRows;
+        this.skippedRows = skippedRows;
+        this.failedRows = failedRows;
+        this.chunks = chunks;
+        this.failedChunks = failedChunks;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = rowsPerSecond;
+        this.errors = errors;
+    }
+    
+    // Getter & Setter
+    public String getTarget() {
+        return target;
+    }
+    
+    public void setTarget(String target) {
+        this.target = target;
+    }
+    
+    public long getImportedRows() {
+        return importedRows;
+    }
+    
+    public void setImportedRows(long importedRows) {
+        this.importedRows = importedRows;
+    }
+    
+    public long getSkippedRows() {
+        return skippedRows;
+    }
+    
+    public void setSkippedRows(long skippedRows) {
+        this.skippedRows = skippedRows;
+    }
+    
+    public long getFailedRows() {
+        return failedRows;
+    }
+    
+    public void setFailedRows(long failedRows) {
+        this.failedRows = failedRows;
+    }
+    
+    public int getChunks() {
+        return chunks;
+    }
+    
+    public void setChunks(int chunks) {
+        this.chunks = chunks;
+    }
+    
+    public int getFailedChunks() {
+        return failedChunks;
+    }
+    
+    public void setFailedChunks(int failedChunks) {
+        this.failedChunks = failedChunks;
+    }
+    
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+    
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+    
+    public long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+    
+    public void setRowsPerSecond(long rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+    
+    public List<String> getErrors() {
+        return errors;
+    }
+    
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,383 @@
+package com.smat.api.ingest.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.smat.api.campus.domain.Menu;
+import com.smat.api.campus.domain.Restaurant;
+import com.smat.api.campus.repository.RestaurantRepository;
+import com.smat.api.campus.service.MenuSnapshotCache;
+import com.smat.api.common.BadRequestException;
+import com.smat.api.common.SecondLevelCache;
+import com.smat.api.ingest.dto.ImportResultDto;
+import com.smat.api.schedule.domain.Lecture;
+import com.smat.api.schedule.domain.LectureTime;
+import com.smat.api.schedule.service.RoomOccupancyGrid;
+import com.smat.api.schedule.service.ScheduleIndex;
+import com.smat.api.schedule.service.StudentScheduleCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.sql.Date;
+import java.sql.Types;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 학식 메뉴/강의 대량 가져오기
+ * 파일을 한 행씩 읽어 chunk 단위로 모은 뒤 JdbcTemplate.batchUpdate로 저장합니다.
+ * (IDENTITY 키 전략에서는 JPA save()가 JDBC 배치를 쓰지 못하므로 JDBC로 직접 INSERT)
+ * chunk마다 별도 트랜잭션으로 커밋하므로 큰 파일도 트랜잭션이 길어지지 않으며,
+ * 저장에 실패한 chunk는 결과에 기록하고 다음 chunk를 계속 처리합니다.
+ * 중간에 중단되더라도 이미 커밋된 chunk만큼은 메뉴 스냅샷/시간표 인덱스 등 메모리 캐시를 갱신합니다.
+ */
+@Service
+public class BulkImportService {
+    
+    private static final Logger log = LoggerFactory.getLogger(BulkImportService.class);
+    
+    // 응답에 포함할 오류 사유 최대 개수
+    private static final int MAX_ERRORS = 20;
+    
+    private static final String INSERT_MENU =
+            "INSERT INTO menu (date, time_type, menu_name, price, restaurant_id) VALUES (?, ?, ?, ?, ?)";
+    private static final int[] MENU_TYPES = {Types.DATE, Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.BIGINT};
+    
+    private static final String INSERT_LECTURE =
+            "INSERT INTO lecture (name, professor, lecture_day, time, room, start_minute, end_minute) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] LECTURE_TYPES = {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.INTEGER, Types.INTEGER};
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final RestaurantRepository restaurantRepository;
+    private final MenuSnapshotCache menuSnapshotCache;
+    private final ScheduleIndex scheduleIndex;
+    private final RoomOccupancyGrid roomOccupancyGrid;
+    private final StudentScheduleCache studentScheduleCache;
+    private final SecondLevelCache secondLevelCache;
+    private final int chunkSize;
+    
+    public BulkImportService(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             RestaurantRepository restaurantRepository,
+                             MenuSnapshotCache menuSnapshotCache,
+                             ScheduleIndex scheduleIndex,
+                             RoomOccupancyGrid roomOccupancyGrid,
+                             StudentScheduleCache studentScheduleCache,
+                             SecondLevelCache secondLevelCache,
+                             @Value("${smat.import.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.restaurantRepository = restaurantRepository;
+        this.menuSnapshotCache = menuSnapshotCache;
+        this.scheduleIndex = scheduleIndex;
+        this.roomOccupancyGrid = roomOccupancyGrid;
+        this.studentScheduleCache = studentScheduleCache;
+        this.secondLevelCache = secondLevelCache;
+        this.chunkSize = chunkSize;
+    }
+    
+    /**
+     * 메뉴 파일 가져오기
+     * 컬럼: date(yyyy-MM-dd), timeType, menuName, price, restaurant(식당명, 없으면 생성) 또는 restaurantId
+     * 없는 restaurantId를 지정한 행은 건너뜁니다.
+     * 
+     * @param in 파일 내용
+     * @param format CSV 또는 JSON
+     * @return 가져오기 결과
+     */
+    public ImportResultDto importMenus(InputStream in, ImportFormat format) {
+        Map<String, Long> restaurantIds = new HashMap<>();
+        for (Restaurant restaurant : restaurantRepository.findAll()) {
+            restaurantIds.put(restaurant.getName(), restaurant.getId());
+        }
+        return writeMenus(ImportRecords.open(in, format, objectMapper), record -> parseMenu(record, restaurantIds));
+    }
+    
+    /**
+     * 메뉴 목록 가져오기 (초기 데이터 로딩 등 코드에서 사용)
+     */
+    public ImportResultDto importMenus(List<Menu> menus) {
+        return writeMenus(menus.iterator(), Function.identity());
+    }
+    
+    /**
+     * 강의 파일 가져오기
+     * 컬럼: name, professor, day(월~일), time(HH:mm-HH:mm), room
+     * 
+     * @param in 파일 내용
+     * @param format CSV 또는 JSON
+     * @return 가져오기 결과
+     */
+    public ImportResultDto importLectures(InputStream in, ImportFormat format) {
+        return writeLectures(ImportRecords.open(in, format, objectMapper), this::parseLecture);
+    }
+    
+    /**
+     * 강의 목록 가져오기 (초기 데이터 로딩 등 코드에서 사용)
+     * JPA 저장과 같이 시간 형식이 잘못된 강의도 그대로 저장합니다. (시작/종료 분은 null)
+     */
+    public ImportResultDto importLectures(List<Lecture> lectures) {
+        return writeLectures(lectures.iterator(), Function.identity());
+    }
+    
+    /**
+     * 메뉴 배치 INSERT만 수행 (캐시 갱신 없음, 한 트랜잭션)
+     * 기동 중 캐시 워밍업 전에 대량으로 넣을 때 사용합니다. 여러 스레드에서 동시에 호출해도 됩니다.
+     */
+    public void insertMenus(List<Menu> menus) {
+        flush(INSERT_MENU, toArgs(menus, BulkImportService::menuArgs), MENU_TYPES);
+    }
+    
+    /**
+     * 강의 배치 INSERT만 수행 (캐시 갱신 없음, 한 트랜잭션)
+     */
+    public void insertLectures(List<Lecture> lectures) {
+        flush(INSERT_LECTURE, toArgs(lectures, BulkImportService::lectureArgs), LECTURE_TYPES);
+        secondLevelCache.evict(Lecture.class, SecondLevelCache.LECTURE_QUERY_REGION);
+    }
+    
+    private <R> ImportResultDto writeMenus(Iterator<R> records, Function<R, Menu> parse) {
+        // 커밋된 chunk에 들어 있던 날짜
+        Set<LocalDate> dates = new TreeSet<>();
+        try {
+            return write("menu", records, parse, INSERT_MENU, MENU_TYPES, BulkImportService::menuArgs,
+                    committed -> committed.forEach(menu -> dates.add(menu.getDate())));
+        } finally {
+            // 바뀐 날짜의 메뉴 스냅샷만 갱신 (뒤 chunk에서 중단되어도 앞서 커밋된 날짜는 갱신)
+            for (LocalDate date : dates) {
+                menuSnapshotCache.refresh(date);
+            }
+        }
+    }
+    
+    private <R> ImportResultDto writeLectures(Iterator<R> records, Function<R, Lecture> parse) {
+        AtomicLong committedRows = new AtomicLong();
+        try {
+            return write("lecture", records, parse, INSERT_LECTURE, LECTURE_TYPES, BulkImportService::lectureArgs,
+                    committed -> committedRows.addAndGet(committed.size()));
+        } finally {
+            if (committedRows.get() > 0) {
+                // JDBC INSERT는 Hibernate가 모르므로 강의 조회 캐시를 비운 뒤 다시 읽음
+                secondLevelCache.evict(Lecture.class, SecondLevelCache.LECTURE_QUERY_REGION);
+                scheduleIndex.rebuild();
+                roomOccupancyGrid.rebuild();
+                studentScheduleCache.invalidateAll();
+            }
+        }
+    }
+    
+    /**
+     * 공통 파이프라인: 한 행씩 변환 -> chunk가 차면 배치 INSERT 후 커밋
+     * 변환에 실패한 행은 건너뛰고, 저장에 실패한 chunk는 롤백된 채로 사유를 기록한 뒤 다음 chunk를 계속 처리합니다.
+     * 커밋된 chunk마다 onCommitted를 호출합니다.
+     */
+    private <R, T> ImportResultDto write(String target, Iterator<R> records, Function<R, T> parse,
+                                         String sql, int[] argTypes, Function<T, Object[]> toArgs,
+                                         Consumer<List<T>> onCommitted) {
+        long startedAt = System.nanoTime();
+        List<T> chunk = new ArrayList<>(chunkSize);
+        List<String> errors = new ArrayList<>();
+        long imported = 0;
+        long skipped = 0;
+        long failed = 0;
+        int chunks = 0;
+        int failedChunks = 0;
+        long row = 0;
+        long chunkFirstRow = 1;
+        
+        while (readJson(records::hasNext, row + 1)) {
+            row++;
+            R record = readJson(records::next, row);
+            T item;
+            try {
+                item = parse.apply(record);
+            } catch (IllegalArgumentException | DateTimeException e) {
+                skipped++;
+                addError(errors, row + "행: " + e.getMessage());
+                continue;
+            }
+            if (chunk.isEmpty()) {
+                chunkFirstRow = row;
+            }
+            chunk.add(item);
+            
+            if (chunk.size() == chunkSize) {
+                if (flushChunk(target, sql, chunk, argTypes, toArgs, chunkFirstRow, row, errors)) {
+                    imported += chunk.size();
+                    chunks++;
+                    onCommitted.accept(chunk);
+                } else {
+                    failed += chunk.size();
+                    failedChunks++;
+                }
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            if (flushChunk(target, sql, chunk, argTypes, toArgs, chunkFirstRow, row, errors)) {
+                imported += chunk.size();
+                chunks++;
+                onCommitted.accept(chunk);
+            } else {
+                failed += chunk.size();
+                failedChunks++;
+            }
+        }
+        
+        long elapsedNanos = Math.max(System.nanoTime() - startedAt, 1);
+        long rowsPerSecond = imported * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        return new ImportResultDto(target, imported, skipped, failed, chunks, failedChunks,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond, errors);
+    }
+    
+    /**
+     * chunk 하나를 저장하고 커밋 여부를 반환 (실패하면 롤백되고 사유를 기록)
+     */
+    private <T> boolean flushChunk(String target, String sql, List<T> chunk, int[] argTypes,
+                                   Function<T, Object[]> toArgs, long fromRow, long toRow, List<String> errors) {
+        try {
+            flush(sql, toArgs(chunk, toArgs), argTypes);
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("{} 가져오기 {}~{}행 chunk 저장 실패", target, fromRow, toRow, e);
+            addError(errors, fromRow + "~" + toRow + "행 저장 실패: " + e.getMostSpecificCause().getMessage());
+            return false;
+        }
+    }
+    
+    private static void addError(List<String> errors, String error) {
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(error);
+        }
+    }
+    
+    /**
+     * 파일 읽기 (깨진 JSON이면 나머지를 읽을 수 없으므로 전체를 400으로 중단)
+     * MappingIterator는 파싱 오류를 RuntimeException으로 감싸서 던집니다.
+     */
+    private static <V> V readJson(Supplier<V> read, long row) {
+        try {
+            return read.get();
+        } catch (RuntimeJsonMappingException e) {
+            throw new BadRequestException(row + "행: JSON 형식이 올바르지 않습니다.");
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof JsonProcessingException) {
+                throw new BadRequestException(row + "행: JSON 형식이 올바르지 않습니다.");
+            }
+            throw e;
+        }
+    }
+    
+    private static Object[] menuArgs(Menu menu) {
+        return new Object[]{Date.valueOf(menu.getDate()), menu.getTimeType(), menu.getMenuName(),
+                menu.getPrice(), menu.getRestaurantId()};
+    }
+    
+    private static Object[] lectureArgs(Lecture lecture) {
+        LectureTime time = LectureTime.parseOrNull(lecture.getTime());
+        return new Object[]{lecture.getName(), lecture.getProfessor(), lecture.getDay(),
+                lecture.getTime(), lecture.getRoom(),
+                time != null ? time.getStartMinute() : null,
+                time != null ? time.getEndMinute() : null};
+    }
+    
+    private static <T> List<Object[]> toArgs(List<T> items, Function<T, Object[]> toArgs) {
+        List<Object[]> args = new ArrayList<>(items.size());
+        for (T item : items) {
+            args.add(toArgs.apply(item));
+        }
+        return args;
+    }
+    
+    /**
+     * chunk 하나를 한 트랜잭션으로 배치 INSERT
+     */
+    private void flush(String sql, List<Object[]> chunk, int[] argTypes) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, chunk, argTypes));
+    }
+    
+    private Menu parseMenu(Map<String, String> record, Map<String, Long> restaurantIds) {
+        LocalDate date = LocalDate.parse(required(record, "date"));
+        String timeType = required(record, "timeType");
+        String menuName = required(record, "menuName");
+        String price = optional(record, "price");
+        
+        Long restaurantId;
+        String restaurantIdValue = optional(record, "restaurantId");
+        if (restaurantIdValue != null) {
+            restaurantId = Long.valueOf(restaurantIdValue);
+            // 없는 식당을 가리키면 chunk 전체가 외래 키 오류로 실패하므로 행 단위로 건너뜀
+            if (!restaurantIds.containsValue(restaurantId)) {
+                throw new IllegalArgumentException("존재하지 않는 식당 id입니다: " + restaurantId);
+            }
+        } else {
+            String restaurant = required(record, "restaurant");
+            restaurantId = restaurantIds.computeIfAbsent(restaurant,
+                    name -> restaurantRepository.save(new Restaurant(null, name)).getId());
+        }
+        return new Menu(null, date, timeType, menuName, price != null ? Integer.valueOf(price) : null, restaurantId);
+    }
+    
+    private Lecture parseLecture(Map<String, String> record) {
+        return validateLecture(new Lecture(
+            null,
+            required(record, "name"),
+            required(record, "professor"),
+            required(record, "day"),
+            required(record, "time"),
+            required(record, "room")
+        ));
+    }
+    
+    private Lecture validateLecture(Lecture lecture) {
+        String day = lecture.getDay();
+        if (day == null || day.length() != 1 || Lecture.WEEK_DAYS.indexOf(day) < 0) {
+            throw new IllegalArgumentException("요일은 월~일 중 하나여야 합니다: " + day);
+        }
+        if (LectureTime.parseOrNull(lecture.getTime()) == null) {
+            throw new IllegalArgumentException("시간은 HH:mm-HH:mm 형식이어야 합니다: " + lecture.getTime());
+        }
+        return lecture;
+    }
+    
+    private static String required(Map<String, String> record, String column) {
+        String value = optional(record, column);
+        if (value == null) {
+            throw new IllegalArgumentException(column + " 값이 없습니다.");
+        }
+        return value;
+    }
+    
+    private static String optional(Map<String, String> record, String column) {
+        String value = record.get(column);
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        return value.trim();
+    }
+}
@@ -0,0 +1,33 @@
+package com.smat.api.ingest.service;
+
+import com.smat.api.common.BadRequestException;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * 가져오기 파일 형식
+ */
+public enum ImportFormat {
+    CSV,   // 첫 줄은 헤더
+    JSON;  // 객체 배열
+    
+    /**
+     * 요청 Content-Type으로 형식 결정
+     */
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            try {
+                MediaType mediaType = MediaType.parseMediaType(contentType);
+                if (MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)) {
+                    return JSON;
+                }
+                if ("csv".equalsIgnoreCase(mediaType.getSubtype())) {
+                    return CSV;
+                }
+            } catch (InvalidMediaTypeException e) {
+                // 아래에서 지원하지 않는 형식으로 응답
+            }
+        }
+        throw new BadRequestException("지원하지 않는 형식입니다. (text/csv 또는 application/json)");
+    }
+}
@@ -0,0 +1,150 @@
+package com.smat.api.ingest.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 가져오기 파일을 한 행씩 읽는 스트리밍 파서
+ * 파일 전체를 메모리에 올리지 않고, 각 행을 "컬럼명 -> 값" Map으로 돌려줍니다.
+ */
+final class ImportRecords {
+    
+    private static final TypeReference<Map<String, String>> RECORD = new TypeReference<Map<String, String>>() {
+    };
+    
+    private ImportRecords() {
+    }
+    
+    static Iterator<Map<String, String>> open(InputStream in, ImportFormat format, ObjectMapper objectMapper) {
+        try {
+            if (format == ImportFormat.JSON) {
+                // 최상위 배열이면 요소를 하나씩 읽음
+                MappingIterator<Map<String, String>> records = objectMapper.readerFor(RECORD).readValues(in);
+                return records;
+            }
+            return new CsvIterator(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * CSV 행 반복자 (첫 줄은 헤더, 큰따옴표로 감싼 값 안의 쉼표/줄바꿈/"" 지원)
+     */
+    private static final class CsvIterator implements Iterator<Map<String, String>> {
+        
+        private final BufferedReader reader;
+        private final String[] header;
+        private Map<String, String> next;
+        
+        CsvIterator(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            List<String> columns = readRow();
+            if (columns == null) {
+                this.header = new String[0];
+                return;
+            }
+            this.header = new String[columns.size()];
+            for (int i = 0; i < columns.size(); i++) {
+                // UTF-8 BOM 제거
+                this.header[i] = columns.get(i).replace("\uFEFF", "").trim();
+            }
+            advance();
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+        
+        @Override
+        public Map<String, String> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Map<String, String> current = next;
+            advance();
+            return current;
+        }
+        
+        private void advance() {
+            try {
+                List<String> values;
+                do {
+                    values = readRow();
+                } while (values != null && values.size() == 1 && values.get(0).isEmpty()); // 빈 줄 무시
+                
+                if (values == null) {
+                    next = null;
+                    return;
+                }
+                Map<String, String> record = new HashMap<>();
+                for (int i = 0; i < header.length && i < values.size(); i++) {
+                    record.put(header[i], values.get(i));
+                }
+                next = record;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        
+        /**
+         * 한 행 읽기 (따옴표 안의 줄바꿈이면 다음 줄까지 이어서 읽음)
+         */
+        private List<String> readRow() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            List<String> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (quoted) {
+                        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            value.append('"');
+                            i++;
+                        } else if (c == '"') {
+                            quoted = false;
+                        } else {
+                            value.append(c);
+                        }
+                    } else if (c == '"') {
+                        quoted = true;
+                    } else if (c == ',') {
+                        values.add(value.toString());
+                        value.setLength(0);
+                    } else {
+                        value.append(c);
+                    }
+                }
+                if (!quoted) {
+                    break;
+                }
+                line = reader.readLine();
+                if (line == null) {
+                    break;
+                }
+                value.append('\n');
+            }
+            values.add(value.toString());
+            return values;
+        }
+    }
+}
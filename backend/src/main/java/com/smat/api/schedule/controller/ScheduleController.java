@@ -1,13 +1,28 @@
 package com.smat.api.schedule.controller;
 
+import com.smat.api.common.DataAggregate;
+import com.smat.api.common.DataVersions;
+import com.smat.api.common.JsonResponseCache;
+import com.smat.api.schedule.dto.ConflictCheckResponseDto;
+import com.smat.api.schedule.dto.FreeRoomResponseDto;
 import com.smat.api.schedule.dto.LectureResponseDto;
 import com.smat.api.schedule.service.ScheduleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Tag(name = "시간표", description = "시간표 관리 API")
@@ -16,9 +31,16 @@ import java.util.List;
 public class ScheduleController {
     
     private final ScheduleService scheduleService;
+    private final DataVersions dataVersions;
+    private final JsonResponseCache jsonResponseCache;
+    private final Clock clock;
     
-    public ScheduleController(ScheduleService scheduleService) {
+    public ScheduleController(ScheduleService scheduleService, DataVersions dataVersions,
+                              JsonResponseCache jsonResponseCache, Clock clock) {
         this.scheduleService = scheduleService;
+        this.dataVersions = dataVersions;
+        this.jsonResponseCache = jsonResponseCache;
+        this.clock = clock;
     }
     
     /**
@@ -27,10 +49,13 @@ public class ScheduleController {
      * @return 전체 강의 리스트
      */
     @Operation(summary = "내 시간표 조회", description = "이번 주 전체 시간표를 조회합니다.")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = LectureResponseDto.class))))
     @GetMapping
-    public ResponseEntity<List<LectureResponseDto>> getWeeklySchedule() {
-        List<LectureResponseDto> lectures = scheduleService.getWeeklySchedule();
-        return ResponseEntity.ok(lectures);
+    public ResponseEntity<byte[]> getWeeklySchedule(WebRequest webRequest) {
+        String etag = dataVersions.etag(DataAggregate.LECTURE);
+        // 직렬화된 JSON을 버전별로 캐시해 그대로 응답 (If-None-Match 확인 포함, 버전이 같으면 DB 조회도 없음)
+        return jsonResponseCache.respond("schedule.weekly", etag, webRequest, scheduleService::getWeeklySchedule);
     }
     
     /**
@@ -43,7 +68,11 @@ public class ScheduleController {
     @GetMapping("/day")
     public ResponseEntity<List<LectureResponseDto>> getScheduleByDay(
             @Parameter(description = "요일 (월/화/수/목/금)", example = "월")
-            @RequestParam String day) {
+            @RequestParam String day,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(dataVersions.etag(DataAggregate.LECTURE))) {
+            return null;
+        }
         List<LectureResponseDto> lectures = scheduleService.getScheduleByDay(day);
         return ResponseEntity.ok(lectures);
     }
@@ -56,11 +85,210 @@ public class ScheduleController {
      */
     @Operation(summary = "다음 수업 조회", description = "현재 시간 이후의 다음 수업을 조회합니다.")
     @GetMapping("/next")
-    public ResponseEntity<LectureResponseDto> getNextLecture() {
+    public ResponseEntity<LectureResponseDto> getNextLecture(WebRequest webRequest) {
+        if (webRequest.checkNotModified(dataVersions.etag(DataAggregate.LECTURE, currentMinute()))) {
+            return null;
+        }
         LectureResponseDto nextLecture = scheduleService.getNextLecture();
         if (nextLecture == null) {
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.ok(nextLecture);
     }
+    
+    /**
+     * 현재 수업을 조회하는 API
+     * 지금 진행 중인 수업 1개를 반환합니다.
+     * 
+     * @return 현재 수업 정보 (없으면 204)
+     */
+    @Operation(summary = "현재 수업 조회", description = "지금 진행 중인 수업을 조회합니다.")
+    @GetMapping("/current")
+    public ResponseEntity<LectureResponseDto> getCurrentLecture(WebRequest webRequest) {
+        if (webRequest.checkNotModified(dataVersions.etag(DataAggregate.LECTURE, currentMinute()))) {
+            return null;
+        }
+        LectureResponseDto currentLecture = scheduleService.getCurrentLecture();
+        if (currentLecture == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(currentLecture);
+    }
+    
+    /**
+     * 특정 요일의 시간대에 걸친 수업을 조회하는 API
+     * 
+     * @param day 요일 (월/화/수/목/금)
+     * @param from 시작 시각 (HH:mm)
+     * @param to 종료 시각 (HH:mm)
+     * @return 해당 시간대와 겹치는 강의 리스트
+     */
+    @Operation(summary = "시간대별 수업 조회", description = "특정 요일의 주어진 시간대와 겹치는 수업을 조회합니다.")
+    @GetMapping("/between")
+    public ResponseEntity<List<LectureResponseDto>> getLecturesBetween(
+            @Parameter(description = "요일 (월/화/수/목/금)", example = "수")
+            @RequestParam String day,
+            @Parameter(description = "시작 시각 (HH:mm)", example = "13:00")
+            @RequestParam @DateTimeFormat(pattern = "HH:mm") LocalTime from,
+            @Parameter(description = "종료 시각 (HH:mm)", example = "15:00")
+            @RequestParam @DateTimeFormat(pattern = "HH:mm") LocalTime to,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(dataVersions.etag(DataAggregate.LECTURE))) {
+            return null;
+        }
+        List<LectureResponseDto> lectures = scheduleService.getLecturesBetween(day, from, to);
+        return ResponseEntity.ok(lectures);
+    }
+    
+    /**
+     * 빈 강의실을 조회하는 API
+     * 
+     * @param day 요일 (월/화/수/목/금)
+     * @param from 시작 시각 (HH:mm)
+     * @param to 종료 시각 (HH:mm)
+     * @return 해당 시간대에 수업이 없는 강의실 목록
+     */
+    @Operation(summary = "빈 강의실 조회", description = "특정 요일/시간대에 수업이 없는 강의실을 조회합니다. (5분 단위)")
+    @GetMapping("/rooms/free")
+    public ResponseEntity<FreeRoomResponseDto> getFreeRooms(
+            @Parameter(description = "요일 (월/화/수/목/금)", example = "수")
+            @RequestParam String day,
+            @Parameter(description = "시작 시각 (HH:mm)", example = "13:00")
+            @RequestParam @DateTimeFormat(pattern = "HH:mm") LocalTime from,
+            @Parameter(description = "종료 시각 (HH:mm)", example = "15:00")
+            @RequestParam @DateTimeFormat(pattern = "HH:mm") LocalTime to,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(dataVersions.etag(DataAggregate.LECTURE))) {
+            return null;
+        }
+        FreeRoomResponseDto freeRooms = scheduleService.getFreeRooms(day, from, to);
+        return ResponseEntity.ok(freeRooms);
+    }
+    
+    /**
+     * 시간표 충돌을 검사하는 API
+     * 
+     * @param lectureId 추가하려는 강의 id
+     * @param timetable 현재 시간표의 강의 id 목록
+     * @return 충돌 여부와 겹치는 강의 목록
+     */
+    @Operation(summary = "시간표 충돌 검사", description = "강의를 시간표에 추가할 때 겹치는 강의가 있는지 검사합니다.")
+    @GetMapping("/conflicts")
+    public ResponseEntity<ConflictCheckResponseDto> checkConflicts(
+            @Parameter(description = "추가하려는 강의 id", example = "1")
+            @RequestParam Long lectureId,
+            @Parameter(description = "현재 시간표의 강의 id 목록", example = "2,3,4")
+            @RequestParam List<Long> timetable,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(dataVersions.etag(DataAggregate.LECTURE))) {
+            return null;
+        }
+        ConflictCheckResponseDto result = scheduleService.checkConflicts(lectureId, timetable);
+        return ResponseEntity.ok(result);
+    }
+    
+    /**
+     * 학생별 주간 시간표를 조회하는 API
+     * 
+     * @param studentId 학번
+     * @return 수강 중인 강의 리스트
+     */
+    @Operation(summary = "학생별 시간표 조회", description = "학생이 수강 중인 강의로 이번 주 시간표를 조회합니다.")
+    @GetMapping("/students/{studentId}")
+    public ResponseEntity<List<LectureResponseDto>> getStudentWeeklySchedule(
+            @Parameter(description = "학번", example = "20240001")
+            @PathVariable String studentId,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(dataVersions.etag(DataAggregate.LECTURE, DataAggregate.ENROLLMENT))) {
+            return null;
+        }
+        List<LectureResponseDto> lectures = scheduleService.getWeeklySchedule(studentId);
+        return ResponseEntity.ok(lectures);
+    }
+    
+    /**
+     * 학생별 특정 요일 시간표를 조회하는 API
+     * 
+     * @param studentId 학번
+     * @param day 요일 (월/화/수/목/금)
+     * @return 해당 요일에 수강 중인 강의 리스트
+     */
+    @Operation(summary = "학생별 요일 시간표 조회", description = "학생이 수강 중인 강의 중 특정 요일의 시간표를 조회합니다.")
+    @GetMapping("/students/{studentId}/day")
+    public ResponseEntity<List<LectureResponseDto>> getStudentScheduleByDay(
+            @Parameter(description = "학번", example = "20240001")
+            @PathVariable String studentId,
+            @Parameter(description = "요일 (월/화/수/목/금)", example = "월")
+            @RequestParam String day,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(dataVersions.etag(DataAggregate.LECTURE, DataAggregate.ENROLLMENT))) {
+            return null;
+        }
+        List<LectureResponseDto> lectures = scheduleService.getScheduleByDay(studentId, day);
+        return ResponseEntity.ok(lectures);
+    }
+    
+    /**
+     * 학생별 다음 수업을 조회하는 API
+     * 
+     * @param studentId 학번
+     * @return 다음 수업 정보 (없으면 204)
+     */
+    @Operation(summary = "학생별 다음 수업 조회", description = "학생이 수강 중인 강의 중 현재 시간 이후의 다음 수업을 조회합니다.")
+    @GetMapping("/students/{studentId}/next")
+    public ResponseEntity<LectureResponseDto> getStudentNextLecture(
+            @Parameter(description = "학번", example = "20240001")
+            @PathVariable String studentId,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(dataVersions.etag(DataAggregate.LECTURE, DataAggregate.ENROLLMENT, currentMinute()))) {
+            return null;
+        }
+        LectureResponseDto nextLecture = scheduleService.getNextLecture(studentId);
+        if (nextLecture == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(nextLecture);
+    }
+    
+    /**
+     * 수강 신청 API
+     * 
+     * @param studentId 학번
+     * @param lectureId 강의 id
+     */
+    @Operation(summary = "수강 신청", description = "학생의 시간표에 강의를 추가합니다.")
+    @PostMapping("/students/{studentId}/lectures/{lectureId}")
+    public ResponseEntity<Void> enroll(
+            @Parameter(description = "학번", example = "20240001")
+            @PathVariable String studentId,
+            @Parameter(description = "강의 id", example = "1")
+            @PathVariable Long lectureId) {
+        scheduleService.enroll(studentId, lectureId);
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * 수강 취소 API
+     * 
+     * @param studentId 학번
+     * @param lectureId 강의 id
+     */
+    @Operation(summary = "수강 취소", description = "학생의 시간표에서 강의를 삭제합니다.")
+    @DeleteMapping("/students/{studentId}/lectures/{lectureId}")
+    public ResponseEntity<Void> drop(
+            @Parameter(description = "학번", example = "20240001")
+            @PathVariable String studentId,
+            @Parameter(description = "강의 id", example = "1")
+            @PathVariable Long lectureId) {
+        scheduleService.drop(studentId, lectureId);
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * 현재 시각 (분 단위)
+     * 다음/현재 수업은 데이터가 그대로여도 시간이 지나면 바뀌므로 ETag에 함께 넣습니다.
+     */
+    private LocalDateTime currentMinute() {
+        return LocalDateTime.now(clock).truncatedTo(ChronoUnit.MINUTES);
+    }
 }
@@ -0,0 +1,54 @@
+package com.smat.api.schedule.domain;
+
+import javax.persistence.*;
+
+@Entity
+@Table(name = "enrollment")
+public class Enrollment {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "student_id", nullable = false)
+    private String studentId; // 학번
+    
+    @Column(name = "lecture_id", nullable = false)
+    private Long lectureId;
+    
+    // 기본 생성자
+    public Enrollment() {
+    }
+    
+    // 생성자
+    public Enrollment(Long id, String studentId, Long lectureId) {
+        this.id = id;
+        this.studentId = studentId;
+        this.lectureId = lectureId;
+    }
+    
+    // Getter & Setter
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getStudentId() {
+        return studentId;
+    }
+    
+    public void setStudentId(String studentId) {
+        this.studentId = studentId;
+    }
+    
+    public Long getLectureId() {
+        return lectureId;
+    }
+    
+    public void setLectureId(Long lectureId) {
+        this.lectureId = lectureId;
+    }
+}
@@ -1,11 +1,24 @@
 package com.smat.api.schedule.domain;
 
+import com.smat.api.common.SecondLevelCache;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+
 import javax.persistence.*;
 
 @Entity
 @Table(name = "lecture")
+@Immutable // 강의는 등록 후 수정하지 않음 (setter 없음)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = SecondLevelCache.LECTURE_REGION)
 public class Lecture {
     
+    /**
+     * 요일 순서 (월 ~ 일)
+     */
+    public static final String WEEK_DAYS = "월화수목금토일";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -25,6 +38,12 @@ public class Lecture {
     @Column(name = "room", nullable = false)
     private String room;
     
+    @Column(name = "start_minute")
+    private Integer startMinute; // 시작 시각 (자정 기준 분, time에서 계산)
+    
+    @Column(name = "end_minute")
+    private Integer endMinute; // 종료 시각 (자정 기준 분, time에서 계산)
+    
     // 기본 생성자
     public Lecture() {
     }
@@ -39,52 +58,48 @@ public class Lecture {
         this.room = room;
     }
     
-    // Getter & Setter
-    public Long getId() {
-        return id;
+    /**
+     * 저장 전에 time 문자열을 분 단위로 변환해 둠
+     * 조회 시에는 문자열 파싱 없이 정수 컬럼으로 비교/정렬합니다.
+     * 수정하지 않는 엔티티라 등록할 때만 계산합니다.
+     */
+    @PrePersist
+    void computeMinutes() {
+        LectureTime parsed = LectureTime.parseOrNull(time);
+        this.startMinute = parsed != null ? parsed.getStartMinute() : null;
+        this.endMinute = parsed != null ? parsed.getEndMinute() : null;
     }
     
-    public void setId(Long id) {
-        this.id = id;
+    // Getter
+    public Long getId() {
+        return id;
     }
     
     public String getName() {
         return name;
     }
     
-    public void setName(String name) {
-        this.name = name;
-    }
-    
     public String getProfessor() {
         return professor;
     }
     
-    public void setProfessor(String professor) {
-        this.professor = professor;
-    }
-    
     public String getDay() {
         return day;
     }
     
-    public void setDay(String day) {
-        this.day = day;
-    }
-    
     public String getTime() {
         return time;
     }
     
-    public void setTime(String time) {
-        this.time = time;
-    }
-    
     public String getRoom() {
         return room;
     }
     
-    public void setRoom(String room) {
-        this.room = room;
+    public Integer getStartMinute() {
+        return startMinute;
+    }
+    
+    public Integer getEndMinute() {
+        return endMinute;
     }
 }
@@ -0,0 +1,67 @@
+package com.smat.api.schedule.domain;
+
+/**
+ * 강의 시간 ("HH:mm-HH:mm") 파싱 결과
+ * 시작/종료 시각을 자정 기준 분 단위 정수로 보관합니다.
+ */
+public final class LectureTime {
+    
+    private final int startMinute;
+    private final int endMinute;
+    
+    private LectureTime(int startMinute, int endMinute) {
+        this.startMinute = startMinute;
+        this.endMinute = endMinute;
+    }
+    
+    /**
+     * "10:00-12:00" 형식의 문자열을 파싱
+     * 
+     * @param time 강의 시간 문자열
+     * @return 파싱 결과 (형식이 잘못되었으면 null)
+     */
+    public static LectureTime parseOrNull(String time) {
+        if (time == null) {
+            return null;
+        }
+        int dash = time.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        int start = parseMinute(time.substring(0, dash));
+        int end = parseMinute(time.substring(dash + 1));
+        if (start < 0 || end < 0 || end < start) {
+            return null;
+        }
+        return new LectureTime(start, end);
+    }
+    
+    /**
+     * "HH:mm" 을 자정 기준 분으로 변환 (실패 시 -1)
+     */
+    private static int parseMinute(String value) {
+        String hhmm = value.trim();
+        int colon = hhmm.indexOf(':');
+        if (colon < 1 || colon == hhmm.length() - 1) {
+            return -1;
+        }
+        try {
+            int hour = Integer.parseInt(hhmm.substring(0, colon));
+            int minute = Integer.parseInt(hhmm.substring(colon + 1));
+            if (hour < 0 || hour > 24 || minute < 0 || minute > 59 || (hour == 24 && minute > 0)) {
+                return -1;
+            }
+            return hour * 60 + minute;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+    
+    public int getStartMinute() {
+        return startMinute;
+    }
+    
+    public int getEndMinute() {
+        return endMinute;
+    }
+}
@@ -0,0 +1,50 @@
+package com.smat.api.schedule.dto;
+
+import java.util.List;
+
+/**
+ * 시간표 충돌 검사 결과
+ * conflicts 는 시간표 중 검사 대상 강의와 시간이 겹치는 강의 목록입니다.
+ */
+public class ConflictCheckResponseDto {
+    
+    private Long lectureId;
+    private boolean conflict;
+    private List<LectureResponseDto> conflicts;
+    
+    // 기본 생성자
+    public ConflictCheckResponseDto() {
+    }
+    
+    // 생성자
+    public ConflictCheckResponseDto(Long lectureId, boolean conflict, List<LectureResponseDto> conflicts) {
+        this.lectureId = lectureId;
+        this.conflict = conflict;
+        this.conflicts = conflicts;
+    }
+    
+    // Getter & Setter
+    public Long getLectureId() {
+        return lectureId;
+    }
+    
+    public void setLectureId(Long lectureId) {
+        this.lectureId = lectureId;
+    }
+    
+    public boolean isConflict() {
+        return conflict;
+    }
+    
+    public void setConflict(boolean conflict) {
+        this.conflict = conflict;
+    }
+    
+    public List<LectureResponseDto> getConflicts() {
+        return conflicts;
+    }
+    
+    public void setConflicts(List<LectureResponseDto> conflicts) {
+        this.conflicts = conflicts;
+    }
+}
@@ -0,0 +1,59 @@
+package com.smat.api.schedule.dto;
+
+import java.util.List;
+
+/**
+ * 빈 강의실 검색 결과
+ */
+public class FreeRoomResponseDto {
+    
+    private String day;
+    private String from;
+    private String to;
+    private List<String> rooms;
+    
+    // 기본 생성자
+    public FreeRoomResponseDto() {
+    }
+    
+    // 생성자
+    public FreeRoomResponseDto(String day, String from, String to, List<String> rooms) {
+        this.day = day;
+        this.from = from;
+        this.to = to;
+        this.rooms = rooms;
+    }
+    
+    // Getter & Setter
+    public String getDay() {
+        return day;
+    }
+    
+    public void setDay(String day) {
+        this.day = day;
+    }
+    
+    public String getFrom() {
+        return from;
+    }
+    
+    public void setFrom(String from) {
+        this.from = from;
+    }
+    
+    public String getTo() {
+        return to;
+    }
+    
+    public void setTo(String to) {
+        this.to = to;
+    }
+    
+    public List<String> getRooms() {
+        return rooms;
+    }
+    
+    public void setRooms(List<String> rooms) {
+        this.rooms = rooms;
+    }
+}
@@ -0,0 +1,32 @@
+package com.smat.api.schedule.repository;
+
+import com.smat.api.schedule.domain.Enrollment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+    
+    /**
+     * 학생이 수강 중인 강의 id 조회
+     */
+    @Query("SELECT e.lectureId FROM Enrollment e WHERE e.studentId = :studentId")
+    List<Long> findLectureIdsByStudentId(@Param("studentId") String studentId);
+    
+    /**
+     * 수강 여부 확인
+     */
+    boolean existsByStudentIdAndLectureId(String studentId, Long lectureId);
+    
+    /**
+     * 수강 취소
+     */
+    @Modifying
+    @Query("DELETE FROM Enrollment e WHERE e.studentId = :studentId AND e.lectureId = :lectureId")
+    int deleteByStudentIdAndLectureId(@Param("studentId") String studentId, @Param("lectureId") Long lectureId);
+}
@@ -1,21 +1,44 @@
 package com.smat.api.schedule.repository;
 
+import com.smat.api.common.SecondLevelCache;
 import com.smat.api.schedule.domain.Lecture;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface LectureRepository extends JpaRepository<Lecture, Long> {
     
     /**
-     * 요일별 강의 조회
+     * 전체 강의 조회 (조회 결과 캐시)
      */
+    @Override
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+        @QueryHint(name = "org.hibernate.cacheRegion", value = SecondLevelCache.LECTURE_QUERY_REGION)
+    })
+    List<Lecture> findAll();
+    
+    /**
+     * 요일별 강의 조회 (조회 결과 캐시)
+     */
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+        @QueryHint(name = "org.hibernate.cacheRegion", value = SecondLevelCache.LECTURE_QUERY_REGION)
+    })
     List<Lecture> findByDay(String day);
     
     /**
      * 교수명으로 강의 조회
      */
     List<Lecture> findByProfessor(String professor);
+    
+    /**
+     * 특정 요일에 주어진 시각(분) 이후 가장 먼저 시작하는 강의 1개 조회
+     */
+    Optional<Lecture> findFirstByDayAndStartMinuteGreaterThanOrderByStartMinuteAsc(String day, Integer minute);
 }
@@ -0,0 +1,171 @@
+package com.smat.api.schedule.service;
+
+import com.smat.api.schedule.domain.Lecture;
+import com.smat.api.schedule.repository.LectureRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 강의실 점유 비트셋
+ * 일주일(7일) x 하루 288칸(5분 단위)을 long[] 비트셋으로 표현해
+ * 빈 강의실 검색과 시간표 충돌 검사를 word 단위 AND/OR 연산으로 처리합니다.
+ * 강의가 바뀌면 (대량 가져오기) 새 비트셋을 따로 만든 뒤 volatile 필드 하나로 통째로 교체합니다.
+ */
+@Component
+public class RoomOccupancyGrid {
+    
+    public static final String DAYS = Lecture.WEEK_DAYS;
+    public static final int SLOT_MINUTES = 5;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES; // 288
+    public static final int WORDS = (DAYS.length() * SLOTS_PER_DAY + 63) / 64; // 32
+    
+    private final LectureRepository lectureRepository;
+    
+    // 강의/강의실 비트셋 (불변, 통째로 교체)
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    
+    public RoomOccupancyGrid(LectureRepository lectureRepository) {
+        this.lectureRepository = lectureRepository;
+    }
+    
+    /**
+     * 기동 직후 (초기 데이터 로딩 이후) 전체 강의로 비트셋 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+    
+    public boolean isReady() {
+        return snapshot != Snapshot.EMPTY;
+    }
+    
+    /**
+     * 전체 강의로 비트셋을 다시 생성
+     */
+    public synchronized void rebuild() {
+        Map<Long, long[]> lectureMasks = new HashMap<>();
+        Map<String, long[]> rooms = new TreeMap<>();
+        for (Lecture lecture : lectureRepository.findAll()) {
+            // 시간 형식이 잘못된 강의도 강의실은 목록에 포함 (점유 칸 없음)
+            long[] bits = rooms.computeIfAbsent(lecture.getRoom(), r -> new long[WORDS]);
+            if (lecture.getStartMinute() != null && lecture.getEndMinute() != null) {
+                long[] mask = mask(lecture.getDay(), lecture.getStartMinute(), lecture.getEndMinute());
+                lectureMasks.put(lecture.getId(), mask);
+                or(bits, mask);
+            }
+        }
+        snapshot = new Snapshot(Collections.unmodifiableMap(lectureMasks), Collections.unmodifiableMap(rooms));
+    }
+    
+    /**
+     * 특정 요일 [fromMinute, toMinute) 동안 비어 있는 강의실 목록 (이름순)
+     */
+    public List<String> findFreeRooms(String day, int fromMinute, int toMinute) {
+        long[] mask = mask(day, fromMinute, toMinute);
+        int first = firstWord(mask);
+        List<String> free = new ArrayList<>();
+        if (first < 0) {
+            return free;
+        }
+        int last = lastWord(mask);
+        for (Map.Entry<String, long[]> room : snapshot.rooms.entrySet()) {
+            if (!intersects(room.getValue(), mask, first, last)) {
+                free.add(room.getKey());
+            }
+        }
+        return free;
+    }
+    
+    /**
+     * 강의의 점유 비트셋 (없거나 시간 형식이 잘못되었으면 null)
+     */
+    public long[] getLectureMask(Long lectureId) {
+        return snapshot.lectureMasks.get(lectureId);
+    }
+    
+    /**
+     * 두 비트셋이 겹치는지 확인
+     */
+    public static boolean intersects(long[] a, long[] b) {
+        return intersects(a, b, 0, WORDS - 1);
+    }
+    
+    /**
+     * 요일 + [fromMinute, toMinute) 구간의 비트셋 생성
+     */
+    public static long[] mask(String day, int fromMinute, int toMinute) {
+        long[] mask = new long[WORDS];
+        int dayIndex = day != null && day.length() == 1 ? DAYS.indexOf(day) : -1;
+        if (dayIndex < 0 || fromMinute >= toMinute) {
+            return mask;
+        }
+        int fromSlot = dayIndex * SLOTS_PER_DAY + Math.max(0, fromMinute) / SLOT_MINUTES;
+        // 종료 시각은 올림 (10:01 에 끝나면 10:00~10:05 칸까지 점유)
+        int toSlot = dayIndex * SLOTS_PER_DAY
+                + Math.min(SLOTS_PER_DAY, (toMinute + SLOT_MINUTES - 1) / SLOT_MINUTES);
+        for (int slot = fromSlot; slot < toSlot; slot++) {
+            mask[slot >>> 6] |= 1L << (slot & 63);
+        }
+        return mask;
+    }
+    
+    private static void or(long[] target, long[] mask) {
+        for (int i = 0; i < WORDS; i++) {
+            target[i] |= mask[i];
+        }
+    }
+    
+    private static boolean intersects(long[] a, long[] b, int first, int last) {
+        for (int i = first; i <= last; i++) {
+            if ((a[i] & b[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static int firstWord(long[] mask) {
+        for (int i = 0; i < WORDS; i++) {
+            if (mask[i] != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private static int lastWord(long[] mask) {
+        for (int i = WORDS - 1; i >= 0; i--) {
+            if (mask[i] != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * 한 시점의 전체 비트셋 (불변)
+     */
+    private static final class Snapshot {
+        
+        static final Snapshot EMPTY = new Snapshot(Collections.emptyMap(), Collections.emptyMap());
+        
+        // 강의 id -> 점유 비트셋 (시간 형식이 잘못된 강의는 없음)
+        final Map<Long, long[]> lectureMasks;
+        // 강의실 -> 점유 비트셋, 이름순
+        final Map<String, long[]> rooms;
+        
+        Snapshot(Map<Long, long[]> lectureMasks, Map<String, long[]> rooms) {
+            this.lectureMasks = lectureMasks;
+            this.rooms = rooms;
+        }
+    }
+}
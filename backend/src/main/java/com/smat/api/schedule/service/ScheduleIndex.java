@@ -0,0 +1,224 @@
+package com.smat.api.schedule.service;
+
+import com.smat.api.common.DataAggregate;
+import com.smat.api.common.DataVersions;
+import com.smat.api.schedule.domain.Lecture;
+import com.smat.api.schedule.dto.LectureResponseDto;
+import com.smat.api.schedule.repository.LectureRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요일별 강의 시간 인덱스
+ * 요일마다 시작 시각 순으로 정렬된 int[] 배열(시작/종료 분)과 강의 id 배열을 보관하고,
+ * 다음 수업/현재 수업/시간대별 수업을 이진 탐색으로 찾습니다. (JPA 조회 없음)
+ * 강의가 바뀌면 (대량 가져오기) 새 인덱스를 따로 만든 뒤 volatile 필드 하나로 통째로 교체하므로,
+ * 재생성 중에도 조회는 이전 인덱스를 끝까지 봅니다. (강의 ETag 버전도 함께 올라감)
+ */
+@Component
+public class ScheduleIndex {
+    
+    private final LectureRepository lectureRepository;
+    private final DataVersions dataVersions;
+    
+    // 강의 DTO + 요일별 시간 배열 (불변, 통째로 교체)
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    
+    public ScheduleIndex(LectureRepository lectureRepository, DataVersions dataVersions) {
+        this.lectureRepository = lectureRepository;
+        this.dataVersions = dataVersions;
+    }
+    
+    /**
+     * 기동 직후 (초기 데이터 로딩 이후) 전체 강의로 인덱스 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+    
+    public boolean isReady() {
+        return snapshot != Snapshot.EMPTY;
+    }
+    
+    /**
+     * 전체 강의로 인덱스를 다시 생성
+     */
+    public synchronized void rebuild() {
+        Map<Long, LectureResponseDto> lectures = new HashMap<>();
+        // 요일 -> (강의 id -> 시작/종료 분)
+        Map<String, Map<Long, int[]>> dayEntries = new HashMap<>();
+        for (Lecture lecture : lectureRepository.findAll()) {
+            lectures.put(lecture.getId(), toDto(lecture));
+            // 시간 형식이 잘못된 강의는 시간 검색 대상에서 제외
+            if (lecture.getStartMinute() != null && lecture.getEndMinute() != null) {
+                dayEntries.computeIfAbsent(lecture.getDay(), d -> new HashMap<>())
+                        .put(lecture.getId(), new int[]{lecture.getStartMinute(), lecture.getEndMinute()});
+            }
+        }
+        Map<String, DayIndex> days = new HashMap<>();
+        dayEntries.forEach((day, entries) -> days.put(day, DayIndex.of(entries)));
+        snapshot = new Snapshot(Collections.unmodifiableMap(lectures), Collections.unmodifiableMap(days));
+        dataVersions.bump(DataAggregate.LECTURE);
+    }
+    
+    /**
+     * id로 강의 조회
+     */
+    public LectureResponseDto getLecture(Long lectureId) {
+        return snapshot.lectures.get(lectureId);
+    }
+    
+    /**
+     * 주어진 시각(분) 이후에 가장 먼저 시작하는 강의
+     */
+    public LectureResponseDto findNext(String day, int minute) {
+        Snapshot current = snapshot;
+        DayIndex index = current.days.get(day);
+        if (index == null) {
+            return null;
+        }
+        int i = index.firstStartAfter(minute);
+        return i < index.size() ? current.lectures.get(index.ids[i]) : null;
+    }
+    
+    /**
+     * 주어진 시각(분)에 진행 중인 강의 (여러 개면 가장 늦게 시작한 강의)
+     */
+    public LectureResponseDto findCurrent(String day, int minute) {
+        Snapshot current = snapshot;
+        DayIndex index = current.days.get(day);
+        if (index == null) {
+            return null;
+        }
+        // 시작 <= minute 인 마지막 강의부터 거꾸로, 아직 끝나지 않은 강의를 찾음
+        for (int i = index.firstStartAfter(minute) - 1; i >= 0 && index.maxEnds[i] > minute; i--) {
+            if (index.ends[i] > minute) {
+                return current.lectures.get(index.ids[i]);
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * [from, to) 구간과 겹치는 강의 목록 (시작 시각 순)
+     */
+    public List<LectureResponseDto> findBetween(String day, int from, int to) {
+        Snapshot current = snapshot;
+        DayIndex index = current.days.get(day);
+        if (index == null || from >= to) {
+            return Collections.emptyList();
+        }
+        // 시작 < to 인 강의 중, 종료 > from 인 강의
+        List<LectureResponseDto> result = new ArrayList<>();
+        for (int i = index.firstStartAfter(to - 1) - 1; i >= 0 && index.maxEnds[i] > from; i--) {
+            if (index.ends[i] > from) {
+                LectureResponseDto lecture = current.lectures.get(index.ids[i]);
+                if (lecture != null) {
+                    result.add(lecture);
+                }
+            }
+        }
+        Collections.reverse(result);
+        return result;
+    }
+    
+    private LectureResponseDto toDto(Lecture lecture) {
+        return new LectureResponseDto(
+            lecture.getId(),
+            lecture.getName(),
+            lecture.getProfessor(),
+            lecture.getDay(),
+            lecture.getTime(),
+            lecture.getRoom()
+        );
+    }
+    
+    /**
+     * 한 시점의 전체 인덱스 (불변)
+     * 강의 DTO와 시간 배열을 한 객체로 묶어, 조회 중에 둘이 서로 다른 시점을 가리키지 않도록 합니다.
+     */
+    private static final class Snapshot {
+        
+        static final Snapshot EMPTY = new Snapshot(Collections.emptyMap(), Collections.emptyMap());
+        
+        final Map<Long, LectureResponseDto> lectures;
+        final Map<String, DayIndex> days;
+        
+        Snapshot(Map<Long, LectureResponseDto> lectures, Map<String, DayIndex> days) {
+            this.lectures = lectures;
+            this.days = days;
+        }
+    }
+    
+    /**
+     * 한 요일의 강의 시간 배열 (시작 시각 오름차순, 불변)
+     */
+    private static final class DayIndex {
+        
+        final int[] starts;
+        final int[] ends;
+        final long[] ids;
+        // maxEnds[i] = ends[0..i] 중 최댓값 (겹치는 강의 탐색 시 조기 종료용)
+        final int[] maxEnds;
+        
+        private DayIndex(int[] starts, int[] ends, long[] ids) {
+            this.starts = starts;
+            this.ends = ends;
+            this.ids = ids;
+            this.maxEnds = new int[ends.length];
+            int max = Integer.MIN_VALUE;
+            for (int i = 0; i < ends.length; i++) {
+                max = Math.max(max, ends[i]);
+                maxEnds[i] = max;
+            }
+        }
+        
+        static DayIndex of(Map<Long, int[]> entries) {
+            Long[] order = entries.keySet().toArray(new Long[0]);
+            Arrays.sort(order, (a, b) -> {
+                int byStart = Integer.compare(entries.get(a)[0], entries.get(b)[0]);
+                return byStart != 0 ? byStart : Long.compare(a, b);
+            });
+            int[] starts = new int[order.length];
+            int[] ends = new int[order.length];
+            long[] ids = new long[order.length];
+            for (int i = 0; i < order.length; i++) {
+                int[] time = entries.get(order[i]);
+                starts[i] = time[0];
+                ends[i] = time[1];
+                ids[i] = order[i];
+            }
+            return new DayIndex(starts, ends, ids);
+        }
+        
+        int size() {
+            return starts.length;
+        }
+        
+        /**
+         * starts[i] > minute 인 첫 위치 (없으면 size)
+         */
+        int firstStartAfter(int minute) {
+            int low = 0;
+            int high = starts.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (starts[mid] <= minute) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -1,35 +1,73 @@
 package com.smat.api.schedule.service;
 
+import com.smat.api.common.BadRequestException;
+import com.smat.api.common.DataAggregate;
+import com.smat.api.common.DataVersions;
+import com.smat.api.common.NotFoundException;
+import com.smat.api.common.SingleFlight;
+import com.smat.api.schedule.domain.Enrollment;
 import com.smat.api.schedule.domain.Lecture;
+import com.smat.api.schedule.dto.ConflictCheckResponseDto;
+import com.smat.api.schedule.dto.FreeRoomResponseDto;
 import com.smat.api.schedule.dto.LectureResponseDto;
+import com.smat.api.schedule.repository.EnrollmentRepository;
 import com.smat.api.schedule.repository.LectureRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.format.TextStyle;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 
 @Service
 @Transactional(readOnly = true)
 public class ScheduleService {
     
     private final LectureRepository lectureRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final ScheduleIndex scheduleIndex;
+    private final RoomOccupancyGrid roomOccupancyGrid;
+    private final StudentScheduleCache studentScheduleCache;
+    private final Clock clock;
+    private final DataVersions dataVersions;
+    private final SingleFlight singleFlight;
+    private final TransactionTemplate transactionTemplate;
     
-    public ScheduleService(LectureRepository lectureRepository) {
+    public ScheduleService(LectureRepository lectureRepository, EnrollmentRepository enrollmentRepository,
+                           ScheduleIndex scheduleIndex, RoomOccupancyGrid roomOccupancyGrid,
+                           StudentScheduleCache studentScheduleCache, Clock clock,
+                           DataVersions dataVersions, SingleFlight singleFlight,
+                           PlatformTransactionManager transactionManager) {
         this.lectureRepository = lectureRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.scheduleIndex = scheduleIndex;
+        this.roomOccupancyGrid = roomOccupancyGrid;
+        this.studentScheduleCache = studentScheduleCache;
+        this.clock = clock;
+        this.dataVersions = dataVersions;
+        this.singleFlight = singleFlight;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
     
     /**
      * 이번 주 전체 시간표 조회
+     * 동시에 들어온 조회는 한 번의 쿼리 결과를 함께 받습니다.
      * 
      * @return 전체 강의 리스트
      */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<LectureResponseDto> getWeeklySchedule() {
+        return singleFlight.execute("schedule.weekly", DataAggregate.LECTURE, "", this::loadWeeklySchedule);
+    }
+    
+    private List<LectureResponseDto> loadWeeklySchedule() {
         List<Lecture> lectures = lectureRepository.findAll();
         
         List<LectureResponseDto> response = new ArrayList<>();
@@ -51,48 +89,32 @@ public class ScheduleService {
     /**
      * 다음 수업 조회
      * 현재 시간 이후에 시작하는 가장 빠른 수업을 반환합니다.
+     * 인덱스가 준비되어 있으면 메모리에서 이진 탐색으로 찾습니다.
      * 
      * @return 다음 수업 정보 (없으면 null)
      */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public LectureResponseDto getNextLecture() {
         // 1. 현재 날짜와 시간 가져오기
-        LocalDate today = LocalDate.now();
-        LocalTime now = LocalTime.now();
+        LocalDate today = LocalDate.now(clock);
+        LocalTime now = LocalTime.now(clock);
         
         // 2. 오늘 요일 구하기 (월/화/수/목/금)
         DayOfWeek dayOfWeek = today.getDayOfWeek();
         String todayKorean = getDayOfWeekKorean(dayOfWeek);
+        int nowMinute = toMinute(now);
         
-        // 3. 오늘 요일의 모든 강의 조회
-        List<Lecture> todayLectures = lectureRepository.findByDay(todayKorean);
-        
-        // 4. 현재 시간 이후의 가장 빠른 강의 찾기
-        Lecture nextLecture = null;
-        LocalTime closestTime = null;
-        
-        for (Lecture lecture : todayLectures) {
-            try {
-                // 시간 파싱 (예: "10:00-12:00" -> "10:00")
-                String[] timeParts = lecture.getTime().split("-");
-                if (timeParts.length < 1) continue;
-                
-                String startTimeStr = timeParts[0].trim();
-                LocalTime startTime = LocalTime.parse(startTimeStr);
-                
-                // 현재 시간보다 나중에 시작하는 강의인지 확인
-                if (startTime.isAfter(now)) {
-                    // 아직 찾지 못했거나, 더 빠른 강의를 찾았다면 업데이트
-                    if (closestTime == null || startTime.isBefore(closestTime)) {
-                        closestTime = startTime;
-                        nextLecture = lecture;
-                    }
-                }
-            } catch (Exception e) {
-                // 시간 파싱 실패 시 무시
-                System.err.println("시간 파싱 실패: " + lecture.getTime());
-            }
+        // 3. 인덱스에서 현재 시각 이후 가장 먼저 시작하는 강의 탐색
+        if (scheduleIndex.isReady()) {
+            return scheduleIndex.findNext(todayKorean, nowMinute);
         }
         
+        // 4. 인덱스 준비 전에는 DB에서 1건만 조회 (인덱스 사용, 같은 시각의 동시 조회는 한 번만)
+        Lecture nextLecture = singleFlight.execute("schedule.next", DataAggregate.LECTURE, todayKorean + ":" + nowMinute,
+                () -> lectureRepository
+                        .findFirstByDayAndStartMinuteGreaterThanOrderByStartMinuteAsc(todayKorean, nowMinute)
+                        .orElse(null));
+        
         // 5. 결과 반환
         if (nextLecture == null) {
             return null;
@@ -108,6 +130,86 @@ public class ScheduleService {
         );
     }
     
+    /**
+     * 현재 수업 조회
+     * 지금 진행 중인 수업을 반환합니다.
+     * 
+     * @return 현재 수업 정보 (없으면 null)
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public LectureResponseDto getCurrentLecture() {
+        LocalDate today = LocalDate.now(clock);
+        String todayKorean = getDayOfWeekKorean(today.getDayOfWeek());
+        return scheduleIndex.findCurrent(todayKorean, toMinute(LocalTime.now(clock)));
+    }
+    
+    /**
+     * 특정 요일의 시간대에 걸친 수업 조회
+     * 
+     * @param day 요일 (월/화/수/목/금)
+     * @param from 시작 시각
+     * @param to 종료 시각
+     * @return [from, to) 구간과 겹치는 강의 리스트 (시작 시각 순)
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<LectureResponseDto> getLecturesBetween(String day, LocalTime from, LocalTime to) {
+        return scheduleIndex.findBetween(day, toMinute(from), toMinute(to));
+    }
+    
+    /**
+     * 빈 강의실 조회
+     * 
+     * @param day 요일 (월/화/수/목/금)
+     * @param from 시작 시각
+     * @param to 종료 시각
+     * @return [from, to) 동안 수업이 없는 강의실 목록
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public FreeRoomResponseDto getFreeRooms(String day, LocalTime from, LocalTime to) {
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("종료 시각은 시작 시각보다 늦어야 합니다.");
+        }
+        List<String> rooms = roomOccupancyGrid.findFreeRooms(day, toMinute(from), toMinute(to));
+        return new FreeRoomResponseDto(day, from.toString(), to.toString(), rooms);
+    }
+    
+    /**
+     * 시간표 충돌 검사
+     * 
+     * @param lectureId 추가하려는 강의 id
+     * @param timetable 현재 시간표의 강의 id 목록
+     * @return 충돌 여부와 겹치는 강의 목록
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public ConflictCheckResponseDto checkConflicts(Long lectureId, List<Long> timetable) {
+        long[] target = roomOccupancyGrid.getLectureMask(lectureId);
+        if (target == null) {
+            throw new NotFoundException("시간 정보가 있는 강의를 찾을 수 없습니다: " + lectureId);
+        }
+        
+        List<LectureResponseDto> conflicts = new ArrayList<>();
+        for (Long otherId : timetable) {
+            long[] other = roomOccupancyGrid.getLectureMask(otherId);
+            if (otherId.equals(lectureId) || other == null) {
+                continue;
+            }
+            if (RoomOccupancyGrid.intersects(target, other)) {
+                LectureResponseDto lecture = scheduleIndex.getLecture(otherId);
+                if (lecture != null) {
+                    conflicts.add(lecture);
+                }
+            }
+        }
+        return new ConflictCheckResponseDto(lectureId, !conflicts.isEmpty(), conflicts);
+    }
+    
+    /**
+     * 자정 기준 분으로 변환
+     */
+    private int toMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+    
     /**
      * 영문 요일을 한글 요일로 변환
      */
@@ -138,7 +240,12 @@ public class ScheduleService {
      * @param day 요일 (월/화/수/목/금)
      * @return 해당 요일의 강의 리스트
      */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<LectureResponseDto> getScheduleByDay(String day) {
+        return singleFlight.execute("schedule.byDay", DataAggregate.LECTURE, day, () -> loadScheduleByDay(day));
+    }
+    
+    private List<LectureResponseDto> loadScheduleByDay(String day) {
         List<Lecture> lectures = lectureRepository.findByDay(day);
         
         List<LectureResponseDto> response = new ArrayList<>();
@@ -156,4 +263,95 @@ public class ScheduleService {
         
         return response;
     }
+    
+    /**
+     * 학생별 주간 시간표 조회
+     * 
+     * @param studentId 학번
+     * @return 수강 중인 강의 리스트 (요일, 시작 시각 순)
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<LectureResponseDto> getWeeklySchedule(String studentId) {
+        return resolve(studentScheduleCache.get(studentId).getLectureIds());
+    }
+    
+    /**
+     * 학생별 특정 요일 시간표 조회
+     * 
+     * @param studentId 학번
+     * @param day 요일 (월/화/수/목/금)
+     * @return 해당 요일에 수강 중인 강의 리스트 (시작 시각 순)
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<LectureResponseDto> getScheduleByDay(String studentId, String day) {
+        return resolve(studentScheduleCache.get(studentId).getLectureIds(day));
+    }
+    
+    /**
+     * 학생별 다음 수업 조회
+     * 
+     * @param studentId 학번
+     * @return 오늘 현재 시각 이후 가장 먼저 시작하는 수강 강의 (없으면 null)
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public LectureResponseDto getNextLecture(String studentId) {
+        String todayKorean = getDayOfWeekKorean(LocalDate.now(clock).getDayOfWeek());
+        Long lectureId = studentScheduleCache.get(studentId)
+                .findNext(todayKorean, toMinute(LocalTime.now(clock)));
+        return lectureId != null ? scheduleIndex.getLecture(lectureId) : null;
+    }
+    
+    /**
+     * 수강 신청 (이미 신청한 강의면 그대로 성공)
+     * 확인과 INSERT를 한 트랜잭션으로 실행하고, 그 트랜잭션 밖에서 중복 예외를 잡습니다.
+     * 같은 신청이 동시에 들어와 유니크 인덱스에 걸리면 이미 신청된 것으로 보고 성공 처리합니다.
+     * (트랜잭션 안에서 잡으면 rollback-only가 되어 커밋 시 500이 되므로)
+     * 
+     * @param studentId 학번
+     * @param lectureId 강의 id
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void enroll(String studentId, Long lectureId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!lectureRepository.existsById(lectureId)) {
+                    throw new NotFoundException("강의를 찾을 수 없습니다: " + lectureId);
+                }
+                if (!enrollmentRepository.existsByStudentIdAndLectureId(studentId, lectureId)) {
+                    enrollmentRepository.save(new Enrollment(null, studentId, lectureId));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 같은 신청이 먼저 커밋됨 (uk_enrollment_student_lecture)
+        }
+        studentScheduleCache.invalidate(studentId);
+        dataVersions.bump(DataAggregate.ENROLLMENT);
+    }
+    
+    /**
+     * 수강 취소
+     * 
+     * @param studentId 학번
+     * @param lectureId 강의 id
+     */
+    @Transactional
+    public void drop(String studentId, Long lectureId) {
+        enrollmentRepository.deleteByStudentIdAndLectureId(studentId, lectureId);
+        studentScheduleCache.invalidate(studentId);
+        dataVersions.bump(DataAggregate.ENROLLMENT);
+    }
+    
+    /**
+     * 강의 id 배열을 인덱스의 DTO로 변환
+     */
+    private List<LectureResponseDto> resolve(long[] lectureIds) {
+        List<LectureResponseDto> response = new ArrayList<>(lectureIds.length);
+        for (long lectureId : lectureIds) {
+            LectureResponseDto lecture = scheduleIndex.getLecture(lectureId);
+            if (lecture != null) {
+                response.add(lecture);
+            }
+        }
+        return response;
+    }
 }
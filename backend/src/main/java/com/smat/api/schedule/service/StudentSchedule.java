@@ -0,0 +1,105 @@
+package com.smat.api.schedule.service;
+
+import com.smat.api.schedule.domain.Lecture;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 학생 한 명의 주간 시간표 (불변, 압축 형태)
+ * 강의 id를 (요일, 시작 시각) 순으로 정렬한 배열과 요일별 시작 위치만 보관합니다.
+ * 강의 상세 정보는 ScheduleIndex에서 id로 찾습니다.
+ */
+public final class StudentSchedule {
+    
+    private static final int DAY_COUNT = Lecture.WEEK_DAYS.length();
+    
+    private final long[] lectureIds;
+    private final int[] starts;
+    // dayOffsets[d] ~ dayOffsets[d + 1] 이 d번째 요일의 구간 (마지막 구간은 요일/시간 정보가 없는 강의)
+    private final int[] dayOffsets;
+    
+    private StudentSchedule(long[] lectureIds, int[] starts, int[] dayOffsets) {
+        this.lectureIds = lectureIds;
+        this.starts = starts;
+        this.dayOffsets = dayOffsets;
+    }
+    
+    static StudentSchedule of(List<Lecture> lectures) {
+        Lecture[] sorted = lectures.toArray(new Lecture[0]);
+        Arrays.sort(sorted, Comparator
+                .comparingInt((Lecture lecture) -> dayIndex(lecture))
+                .thenComparingInt(StudentSchedule::startMinute)
+                .thenComparing(Lecture::getId));
+        
+        long[] ids = new long[sorted.length];
+        int[] starts = new int[sorted.length];
+        int[] dayOffsets = new int[DAY_COUNT + 2];
+        for (int i = 0; i < sorted.length; i++) {
+            ids[i] = sorted[i].getId();
+            starts[i] = startMinute(sorted[i]);
+            dayOffsets[dayIndex(sorted[i]) + 1]++;
+        }
+        for (int d = 1; d < dayOffsets.length; d++) {
+            dayOffsets[d] += dayOffsets[d - 1];
+        }
+        return new StudentSchedule(ids, starts, dayOffsets);
+    }
+    
+    /**
+     * 전체 강의 id (요일, 시작 시각 순)
+     */
+    public long[] getLectureIds() {
+        return lectureIds.clone();
+    }
+    
+    /**
+     * 특정 요일의 강의 id (시작 시각 순)
+     */
+    public long[] getLectureIds(String day) {
+        int d = dayIndex(day);
+        if (d == DAY_COUNT) {
+            return new long[0];
+        }
+        return Arrays.copyOfRange(lectureIds, dayOffsets[d], dayOffsets[d + 1]);
+    }
+    
+    /**
+     * 특정 요일에 주어진 시각(분) 이후 가장 먼저 시작하는 강의 id (없으면 null)
+     */
+    public Long findNext(String day, int minute) {
+        int d = dayIndex(day);
+        if (d == DAY_COUNT) {
+            return null;
+        }
+        int low = dayOffsets[d];
+        int high = dayOffsets[d + 1];
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= minute) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low < dayOffsets[d + 1] ? lectureIds[low] : null;
+    }
+    
+    public int size() {
+        return lectureIds.length;
+    }
+    
+    private static int dayIndex(Lecture lecture) {
+        return lecture.getStartMinute() == null ? DAY_COUNT : dayIndex(lecture.getDay());
+    }
+    
+    private static int dayIndex(String day) {
+        int index = day != null && day.length() == 1 ? Lecture.WEEK_DAYS.indexOf(day) : -1;
+        return index < 0 ? DAY_COUNT : index;
+    }
+    
+    private static int startMinute(Lecture lecture) {
+        return lecture.getStartMinute() != null ? lecture.getStartMinute() : Integer.MAX_VALUE;
+    }
+}
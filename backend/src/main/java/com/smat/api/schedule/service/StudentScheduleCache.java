@@ -0,0 +1,180 @@
+package com.smat.api.schedule.service;
+
+import com.smat.api.common.DataAggregate;
+import com.smat.api.common.SingleFlight;
+import com.smat.api.schedule.repository.EnrollmentRepository;
+import com.smat.api.schedule.repository.LectureRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 학생별 주간 시간표 캐시
+ * 처음 조회할 때 DB에서 읽어 압축 시간표로 만들고, 최대 개수를 넘으면 가장 오래 안 쓴 학생부터 내보냅니다. (LRU)
+ * 학생 id 해시로 나눈 구역(segment)마다 따로 락과 LRU를 두어, 학생이 많아도 조회가 한 락에 몰리지 않습니다.
+ * 수강 신청/취소 시 해당 학생만 무효화합니다. (다른 학생의 로딩 결과는 그대로 캐시됨)
+ * 트랜잭션 안에서 무효화하면 지금 한 번, 커밋된 뒤에 한 번 더 무효화합니다.
+ * (커밋 전에 다른 요청이 이전 수강 목록을 읽어 다시 캐시해도 커밋 후에 지워짐)
+ */
+@Component
+public class StudentScheduleCache {
+    
+    private final EnrollmentRepository enrollmentRepository;
+    private final LectureRepository lectureRepository;
+    private final SingleFlight singleFlight;
+    
+    // 학생 id 해시 -> 구역 (구역 수는 2의 거듭제곱)
+    private final Segment[] segments;
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    
+    public StudentScheduleCache(EnrollmentRepository enrollmentRepository,
+                                LectureRepository lectureRepository,
+                                SingleFlight singleFlight,
+                                @Value("${smat.schedule.student-cache.max-size:10000}") int maxSize,
+                                @Value("${smat.schedule.student-cache.segments:16}") int segmentCount) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.lectureRepository = lectureRepository;
+        this.singleFlight = singleFlight;
+        
+        int count = Integer.highestOneBit(Math.max(1, segmentCount));
+        int segmentMaxSize = Math.max(1, (maxSize + count - 1) / count);
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(segmentMaxSize, evictions);
+        }
+    }
+    
+    /**
+     * 학생의 주간 시간표 조회 (없으면 DB에서 읽어 캐시)
+     */
+    public StudentSchedule get(String studentId) {
+        Segment segment = segmentFor(studentId);
+        Object loadToken;
+        synchronized (segment) {
+            StudentSchedule cached = segment.entries.get(studentId);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            loadToken = segment.loading.computeIfAbsent(studentId, id -> new Object());
+        }
+        misses.increment();
+        
+        // DB 조회는 락 밖에서 수행 (같은 학생을 동시에 조회하면 한 번만)
+        StudentSchedule loaded = singleFlight.execute("schedule.studentSchedule", DataAggregate.ENROLLMENT, studentId,
+                () -> load(studentId));
+        
+        synchronized (segment) {
+            // 로딩 중 이 학생이 무효화되었으면 토큰이 지워졌으므로 캐시에 넣지 않음
+            if (segment.loading.remove(studentId, loadToken)) {
+                segment.entries.put(studentId, loaded);
+            }
+        }
+        return loaded;
+    }
+    
+    private StudentSchedule load(String studentId) {
+        List<Long> lectureIds = enrollmentRepository.findLectureIdsByStudentId(studentId);
+        return StudentSchedule.of(lectureRepository.findAllById(lectureIds));
+    }
+    
+    /**
+     * 특정 학생의 시간표 무효화 (수강 변경 시)
+     */
+    public void invalidate(String studentId) {
+        Segment segment = segmentFor(studentId);
+        runNowAndAfterCommit(() -> {
+            synchronized (segment) {
+                segment.entries.remove(studentId);
+                segment.loading.remove(studentId);
+            }
+        });
+    }
+    
+    /**
+     * 전체 무효화 (강의 정보 변경 시)
+     */
+    public void invalidateAll() {
+        runNowAndAfterCommit(() -> {
+            for (Segment segment : segments) {
+                synchronized (segment) {
+                    segment.entries.clear();
+                    segment.loading.clear();
+                }
+            }
+        });
+    }
+    
+    private static void runNowAndAfterCommit(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+    
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+    
+    public long getHitCount() {
+        return hits.sum();
+    }
+    
+    public long getMissCount() {
+        return misses.sum();
+    }
+    
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+    
+    private Segment segmentFor(String studentId) {
+        int hash = studentId.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+    
+    /**
+     * 캐시 한 구역 (모든 접근은 구역 락으로 보호)
+     */
+    private static final class Segment {
+        
+        // 접근 순서 LinkedHashMap (LRU)
+        final Map<String, StudentSchedule> entries;
+        // 로딩 중인 학생 -> 로딩 토큰 (무효화되면 지워져, 그 전에 시작한 로딩 결과는 캐시에 넣지 않음)
+        final Map<String, Object> loading = new HashMap<>();
+        
+        Segment(int maxSize, LongAdder evictions) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, StudentSchedule> eldest) {
+                    if (size() > maxSize) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+}
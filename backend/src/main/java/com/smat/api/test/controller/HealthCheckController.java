@@ -1,15 +1,19 @@
 package com.smat.api.test.controller;
 
+import com.smat.api.common.SecondLevelCache;
+import com.smat.api.common.SingleFlight;
+import com.smat.api.config.HealthMonitor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Tag(name = "헬스체크", description = "서버 상태 확인 API")
@@ -17,33 +21,111 @@ import java.util.Map;
 @RequestMapping("/api/health")
 public class HealthCheckController {
     
+    private final SecondLevelCache secondLevelCache;
+    private final SingleFlight singleFlight;
+    private final HealthMonitor healthMonitor;
+    
+    // 마지막 점검 결과로 만든 상세 정보 (점검 결과가 바뀔 때만 다시 만듦)
+    private volatile Map<String, Object> infoSource;
+    private volatile Map<String, Object> info;
+    
+    public HealthCheckController(SecondLevelCache secondLevelCache, SingleFlight singleFlight,
+                                 HealthMonitor healthMonitor) {
+        this.secondLevelCache = secondLevelCache;
+        this.singleFlight = singleFlight;
+        this.healthMonitor = healthMonitor;
+    }
+    
     /**
      * 서버 상태 확인 API
      * 프론트엔드에서 백엔드 연결 테스트용
      * 
-     * @return "Backend is Active!" 메시지
+     * @return "Backend is Active!" 메시지 (애플리케이션이 비정상 상태면 503)
      */
     @Operation(summary = "서버 상태 확인", description = "백엔드 서버가 정상적으로 동작하는지 확인합니다.")
     @GetMapping
     public ResponseEntity<String> healthCheck() {
+        if (!healthMonitor.isLive()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Backend is not healthy");
+        }
         return ResponseEntity.ok("Backend is Active!");
     }
     
     /**
      * 상세 서버 정보 확인 API (추가 기능)
-     * 서버 시간 및 상태 정보 포함
+     * 마지막 상태 점검 시각과 결과 (DB 응답 시간, 커넥션 풀, 캐시 준비 여부) 포함
      * 
      * @return 서버 상태 정보
      */
     @Operation(summary = "서버 상세 정보 확인", description = "서버의 상세 정보를 확인합니다.")
     @GetMapping("/info")
     public ResponseEntity<Map<String, Object>> healthCheckInfo() {
-        Map<String, Object> info = new HashMap<>();
-        info.put("status", "Active");
-        info.put("message", "Backend is running successfully!");
-        info.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-        info.put("version", "1.0.0");
-        
+        Map<String, Object> readiness = healthMonitor.getReadinessBody();
+        if (readiness != infoSource) {
+            Map<String, Object> rebuilt = new LinkedHashMap<>();
+            rebuilt.put("status", healthMonitor.isReady() ? "Active" : "Starting");
+            rebuilt.put("message", "Backend is running successfully!");
+            rebuilt.put("timestamp", readiness.get("checkedAt"));
+            rebuilt.put("version", "1.0.0");
+            rebuilt.put("health", readiness);
+            info = Collections.unmodifiableMap(rebuilt);
+            infoSource = readiness;
+        }
         return ResponseEntity.ok(info);
     }
+    
+    /**
+     * 생존 확인 API (liveness probe)
+     * DB 상태와 무관하게 애플리케이션이 정상인지 확인합니다. (실패하면 재시작 대상)
+     * 
+     * @return UP (200) / DOWN (503)
+     */
+    @Operation(summary = "생존 확인", description = "애플리케이션이 재시작 없이 동작 중인지 확인합니다.")
+    @GetMapping("/liveness")
+    public ResponseEntity<Map<String, Object>> liveness() {
+        return ResponseEntity.status(healthMonitor.isLive() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .body(healthMonitor.getLivenessBody());
+    }
+    
+    /**
+     * 준비 확인 API (readiness probe)
+     * 백그라운드에서 주기적으로 점검한 결과를 반환하므로 호출해도 DB에 쿼리를 보내지 않습니다.
+     * 초기 데이터 로딩/캐시 준비 전, DB 응답 지연, 커넥션 풀 포화, 점검 지연 시 503을 반환합니다.
+     * 
+     * @return 점검 결과 (준비됨 200 / 준비 안 됨 503)
+     */
+    @Operation(summary = "준비 확인", description = "DB 응답 시간, 커넥션 풀, 캐시 준비 상태를 확인합니다. (백그라운드 점검 결과)")
+    @GetMapping("/readiness")
+    public ResponseEntity<Map<String, Object>> readiness() {
+        return ResponseEntity.status(healthMonitor.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .body(healthMonitor.getReadinessBody());
+    }
+    
+    /**
+     * Hibernate 2차 캐시 통계 API
+     * 식당/강의 엔티티와 조회 결과 캐시의 영역별 적중률
+     * 
+     * @return 캐시 통계
+     */
+    @Operation(summary = "2차 캐시 통계", description = "식당/강의 2차 캐시와 조회 결과 캐시의 적중/미적중 횟수를 확인합니다.")
+    @GetMapping("/cache")
+    public ResponseEntity<Map<String, Object>> secondLevelCacheStats() {
+        return ResponseEntity.ok(secondLevelCache.getStats());
+    }
+    
+    /**
+     * 동일 조회 합치기 통계 API
+     * 조회 이름별로 실제 실행 횟수와, 실행 중인 조회에 합쳐져 쿼리 없이 결과를 받은 횟수
+     * 
+     * @return 합치기 통계
+     */
+    @Operation(summary = "동일 조회 합치기 통계", description = "동시에 들어온 같은 조회가 몇 번 합쳐졌는지 확인합니다.")
+    @GetMapping("/single-flight")
+    public ResponseEntity<Map<String, Object>> singleFlightStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("inFlight", singleFlight.getInFlightCount());
+        stats.put("coalesced", singleFlight.getCoalescedCount());
+        stats.put("queries", singleFlight.getStats());
+        return ResponseEntity.ok(stats);
+    }
 }
@@ -0,0 +1,59 @@
+-- SMAT 초기 스키마
+-- MySQL 과 H2(MODE=MySQL) 양쪽에서 동작하도록 작성합니다.
+
+-- ========== 학식 ==========
+CREATE TABLE restaurant (
+    id   BIGINT       NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE menu (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    date          DATE         NOT NULL,
+    time_type     VARCHAR(255) NOT NULL,
+    menu_name     VARCHAR(255) NOT NULL,
+    price         INT,
+    restaurant_id BIGINT       NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- findByDate / findByDateAndTimeType / 날짜 범위 조회
+CREATE INDEX idx_menu_date_time_type_restaurant ON menu (date, time_type, restaurant_id);
+
+-- ========== 시간표 ==========
+CREATE TABLE lecture (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(255) NOT NULL,
+    professor   VARCHAR(255) NOT NULL,
+    lecture_day VARCHAR(255) NOT NULL,
+    time        VARCHAR(255) NOT NULL,
+    room        VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- findByDay (time 은 "HH:mm-HH:mm" 형식이라 시작 시간 순으로 정렬됨)
+CREATE INDEX idx_lecture_day_time ON lecture (lecture_day, time);
+-- findByProfessor
+CREATE INDEX idx_lecture_professor ON lecture (professor);
+
+-- ========== 커뮤니티 ==========
+CREATE TABLE post (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    category       VARCHAR(255) NOT NULL,
+    title          VARCHAR(255) NOT NULL,
+    content        TEXT         NOT NULL,
+    writer         VARCHAR(255) NOT NULL,
+    price          INT,
+    current_people INT,
+    max_people     INT,
+    created_date   DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+-- findByCategory (작성일 순 정렬 포함)
+CREATE INDEX idx_post_category_created_date ON post (category, created_date);
+-- findByWriter
+CREATE INDEX idx_post_writer_created_date ON post (writer, created_date);
+-- findRecentPosts (ORDER BY created_date DESC)
+CREATE INDEX idx_post_created_date ON post (created_date);
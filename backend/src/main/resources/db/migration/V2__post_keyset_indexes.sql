@@ -0,0 +1,8 @@
+-- 게시글 커서 페이지네이션 (created_date DESC, id DESC) 용 인덱스
+-- 정렬 키 전체를 인덱스에 포함시켜 몇 번째 페이지든 인덱스 범위 스캔 한 번으로 끝나도록 합니다.
+
+ALTER TABLE post DROP INDEX idx_post_created_date;
+CREATE INDEX idx_post_created_date_id ON post (created_date, id);
+
+ALTER TABLE post DROP INDEX idx_post_category_created_date;
+CREATE INDEX idx_post_category_created_date_id ON post (category, created_date, id);
@@ -0,0 +1,8 @@
+-- 강의 시작/종료 시각을 자정 기준 분 단위 정수로 저장 (time 문자열에서 계산)
+-- 다음 수업 조회를 (lecture_day, start_minute) 인덱스 한 번으로 처리합니다.
+
+ALTER TABLE lecture ADD COLUMN start_minute INT;
+ALTER TABLE lecture ADD COLUMN end_minute INT;
+
+ALTER TABLE lecture DROP INDEX idx_lecture_day_time;
+CREATE INDEX idx_lecture_day_start_minute ON lecture (lecture_day, start_minute);
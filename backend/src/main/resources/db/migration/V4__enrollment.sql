@@ -0,0 +1,13 @@
+-- 학생별 수강 신청 (학생 <-> 강의)
+
+CREATE TABLE enrollment (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    student_id VARCHAR(255) NOT NULL,
+    lecture_id BIGINT       NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- 학생별 시간표 조회 + 중복 수강 방지
+CREATE UNIQUE INDEX uk_enrollment_student_lecture ON enrollment (student_id, lecture_id);
+-- 강의별 수강생 조회
+CREATE INDEX idx_enrollment_lecture ON enrollment (lecture_id);
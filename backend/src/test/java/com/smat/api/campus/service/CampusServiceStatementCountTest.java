@@ -0,0 +1,139 @@
+package com.smat.api.campus.service;
+
+import com.smat.api.campus.domain.Menu;
+import com.smat.api.campus.domain.Restaurant;
+import com.smat.api.campus.dto.MenuResponseDto;
+import com.smat.api.campus.repository.MenuRepository;
+import com.smat.api.campus.repository.RestaurantRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메뉴 목록 조회 SQL 횟수 (N+1 회귀 방지)
+ * 식당이 여러 개여도 메뉴와 식당명을 조인 쿼리 한 번으로 가져와야 합니다. (식당별 findById 없음)
+ * 고정 Clock으로 실행해, 오늘 메뉴 조회와 스냅샷 캐시가 같은 Clock의 날짜를 쓰는지도 확인합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class CampusServiceStatementCountTest {
+    
+    // 시스템 날짜와 다른 고정 날짜 (스냅샷은 이 날짜부터 만들어짐)
+    private static final LocalDate FIXED_TODAY = LocalDate.of(2030, 1, 7);
+    
+    // 스냅샷 캐시 범위 밖의 날짜 (DB 조회 경로)
+    private static final LocalDate UNCACHED_DATE = LocalDate.of(2099, 3, 2);
+    private static final String LUNCH = "중식";
+    private static final String DINNER = "석식";
+    
+    @Autowired
+    private CampusService campusService;
+    
+    @Autowired
+    private MenuRepository menuRepository;
+    
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+    
+    @Autowired
+    private MenuSnapshotCache menuSnapshotCache;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    private Statistics statistics;
+    private List<Restaurant> restaurants;
+    private List<Menu> menus;
+    
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        restaurants = restaurantRepository.findAll();
+        
+        // 식당마다 중식/석식 메뉴 하나씩
+        menus = new ArrayList<>();
+        for (Restaurant restaurant : restaurants) {
+            menus.add(new Menu(null, UNCACHED_DATE, LUNCH, restaurant.getName() + " 중식", 5000, restaurant.getId()));
+            menus.add(new Menu(null, UNCACHED_DATE, DINNER, restaurant.getName() + " 석식", 5000, restaurant.getId()));
+        }
+        menus = menuRepository.saveAll(menus);
+        statistics.clear();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        menuRepository.deleteAll(menus);
+    }
+    
+    @Test
+    @DisplayName("날짜별 메뉴 조회는 식당 수와 무관하게 SQL 1번")
+    void menusByDateUseSingleStatement() {
+        assertThat(statistics.isStatisticsEnabled()).isTrue();
+        assertThat(restaurants).hasSizeGreaterThan(1);
+        
+        List<MenuResponseDto> result = campusService.getMenusByDate(UNCACHED_DATE);
+        
+        assertThat(result).hasSize(restaurants.size() * 2);
+        assertThat(result).extracting(MenuResponseDto::getRestaurantName)
+                .isSubsetOf(restaurantNames());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+    
+    @Test
+    @DisplayName("날짜+시간대별 메뉴 조회도 SQL 1번")
+    void menusByDateAndTimeTypeUseSingleStatement() {
+        List<MenuResponseDto> result = campusService.getMenusByDateAndTimeType(UNCACHED_DATE, LUNCH);
+        
+        assertThat(result).hasSize(restaurants.size());
+        assertThat(result).extracting(MenuResponseDto::getRestaurantName)
+                .containsExactlyInAnyOrderElementsOf(restaurantNames());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+    
+    @Test
+    @DisplayName("오늘 (주입된 Clock 기준) 메뉴는 스냅샷에서 SQL 없이 응답")
+    void cachedDateUsesNoStatement() {
+        assertThat(menuSnapshotCache.isCached(FIXED_TODAY)).isTrue();
+        
+        campusService.getTodayMenus();
+        
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+    
+    private List<String> restaurantNames() {
+        return restaurants.stream().map(Restaurant::getName).collect(Collectors.toList());
+    }
+    
+    @TestConfiguration
+    static class FixedClockConfig {
+        
+        @Bean
+        @Primary
+        Clock fixedClock() {
+            return Clock.fixed(FIXED_TODAY.atTime(12, 0).atZone(ZoneId.systemDefault()).toInstant(),
+                    ZoneId.systemDefault());
+        }
+    }
+}
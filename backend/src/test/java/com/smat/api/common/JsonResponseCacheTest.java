@@ -0,0 +1,86 @@
+package com.smat.api.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JsonResponseCache 표현별 ETag와 Accept-Encoding 처리
+ * gzip 본문과 원본 본문은 서로 다른 ETag로 응답하고, q=0은 gzip 거부로 봐야 합니다.
+ */
+class JsonResponseCacheTest {
+    
+    private static final String ETAG = "\"e1-post3\"";
+    
+    // 압축 기준 (1KB)보다 큰 응답
+    private static final List<String> BODY = Collections.nCopies(200, "게시글");
+    
+    private final JsonResponseCache cache = new JsonResponseCache(new ObjectMapper());
+    
+    @Test
+    @DisplayName("gzip 응답은 원본과 다른 ETag를 보낸다")
+    void gzipVariantHasOwnEtag() {
+        MockHttpServletResponse identity = new MockHttpServletResponse();
+        ResponseEntity<byte[]> plain = cache.respond("test", ETAG, request(null, null, identity), () -> BODY);
+        MockHttpServletResponse compressed = new MockHttpServletResponse();
+        ResponseEntity<byte[]> gzip = cache.respond("test", ETAG, request("gzip, deflate", null, compressed), () -> BODY);
+        
+        assertThat(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(identity.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(compressed.getHeader(HttpHeaders.ETAG)).isEqualTo("\"e1-post3-gzip\"");
+    }
+    
+    @Test
+    @DisplayName("If-None-Match는 보낼 표현의 ETag와 맞을 때만 304")
+    void notModifiedOnlyForSameVariant() {
+        MockHttpServletResponse gzipHit = new MockHttpServletResponse();
+        assertThat(cache.respond("test", ETAG, request("gzip", "\"e1-post3-gzip\"", gzipHit), () -> BODY)).isNull();
+        assertThat(gzipHit.getStatus()).isEqualTo(304);
+        
+        // 원본 ETag로 gzip을 요청하면 본문을 다시 받아야 함
+        MockHttpServletResponse identityTag = new MockHttpServletResponse();
+        ResponseEntity<byte[]> response = cache.respond("test", ETAG, request("gzip", ETAG, identityTag), () -> BODY);
+        assertThat(response).isNotNull();
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        
+        MockHttpServletResponse identityHit = new MockHttpServletResponse();
+        assertThat(cache.respond("test", ETAG, request(null, ETAG, identityHit), () -> BODY)).isNull();
+        assertThat(identityHit.getStatus()).isEqualTo(304);
+    }
+    
+    @Test
+    @DisplayName("Accept-Encoding의 q 값을 따른다")
+    void acceptsGzipHonoursQuality() {
+        assertThat(JsonResponseCache.acceptsGzip("gzip")).isTrue();
+        assertThat(JsonResponseCache.acceptsGzip("deflate, gzip;q=0.5")).isTrue();
+        assertThat(JsonResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(JsonResponseCache.acceptsGzip("gzip; q=0.0, br")).isFalse();
+        assertThat(JsonResponseCache.acceptsGzip("*")).isTrue();
+        assertThat(JsonResponseCache.acceptsGzip("*;q=0")).isFalse();
+        assertThat(JsonResponseCache.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(JsonResponseCache.acceptsGzip("identity")).isFalse();
+        assertThat(JsonResponseCache.acceptsGzip(null)).isFalse();
+    }
+    
+    private static ServletWebRequest request(String acceptEncoding, String ifNoneMatch, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, response);
+    }
+}
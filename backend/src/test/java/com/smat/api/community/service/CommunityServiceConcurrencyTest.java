@@ -0,0 +1,162 @@
+package com.smat.api.community.service;
+
+import com.smat.api.common.ConflictException;
+import com.smat.api.community.domain.Category;
+import com.smat.api.community.dto.PostCategoryCountDto;
+import com.smat.api.community.dto.PostRequestDto;
+import com.smat.api.community.dto.PostResponseDto;
+import com.smat.api.community.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모집글 동시 참여/나가기 부하 테스트
+ * 여러 스레드가 한꺼번에 참여해도 정원을 넘지 않고, 카운터와 DB가 일치하며, 정해진 시간 안에 끝나야 합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "spring.jpa.show-sql=false")
+class CommunityServiceConcurrencyTest {
+    
+    private static final Logger log = LoggerFactory.getLogger(CommunityServiceConcurrencyTest.class);
+    
+    private static final int THREADS = 16;
+    private static final int MAX_PEOPLE = 50;
+    // 정원보다 훨씬 많은 참여 시도
+    private static final int ATTEMPTS = 400;
+    // 최소 처리량 (H2 메모리 DB 기준으로 넉넉하게 잡은 하한)
+    private static final double MIN_OPS_PER_SECOND = 50;
+    
+    @Autowired
+    private CommunityService communityService;
+    
+    @Autowired
+    private PostRepository postRepository;
+    
+    private ExecutorService pool;
+    
+    @BeforeEach
+    void setUp() {
+        pool = Executors.newFixedThreadPool(THREADS);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+    
+    @Test
+    @DisplayName("동시에 정원보다 많이 참여해도 정확히 정원까지만 참여된다")
+    void concurrentJoinsNeverExceedCapacity() throws Exception {
+        PostResponseDto post = createRecruitment();
+        long openBefore = openCount(Category.TAXI);
+        
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        long elapsedNanos = runConcurrently(ATTEMPTS, () -> {
+            try {
+                communityService.joinPost(post.getId());
+                joined.incrementAndGet();
+            } catch (ConflictException e) {
+                rejected.incrementAndGet();
+            }
+            return null;
+        });
+        
+        // 작성자 1명 + 참여 (정원 - 1)명
+        assertThat(joined.get()).isEqualTo(MAX_PEOPLE - 1);
+        assertThat(rejected.get()).isEqualTo(ATTEMPTS - (MAX_PEOPLE - 1));
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getCurrentPeople()).isEqualTo(MAX_PEOPLE);
+        // 마감된 글은 모집 중 카운터에서 정확히 한 번 빠짐
+        assertThat(openCount(Category.TAXI)).isEqualTo(openBefore - 1);
+        
+        assertThroughput("join", ATTEMPTS, elapsedNanos);
+    }
+    
+    @Test
+    @DisplayName("참여와 나가기가 섞여도 인원은 1명 이상 정원 이하이고 성공한 요청 수와 일치한다")
+    void concurrentJoinsAndLeavesStayConsistent() throws Exception {
+        PostResponseDto post = createRecruitment();
+        
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger left = new AtomicInteger();
+        AtomicInteger counter = new AtomicInteger();
+        long elapsedNanos = runConcurrently(ATTEMPTS, () -> {
+            boolean join = counter.getAndIncrement() % 3 != 0;
+            try {
+                if (join) {
+                    communityService.joinPost(post.getId());
+                    joined.incrementAndGet();
+                } else {
+                    communityService.leavePost(post.getId());
+                    left.incrementAndGet();
+                }
+            } catch (ConflictException e) {
+                // 정원 초과 또는 나갈 사람 없음
+            }
+            return null;
+        });
+        
+        int currentPeople = postRepository.findById(post.getId()).orElseThrow().getCurrentPeople();
+        assertThat(currentPeople).isEqualTo(1 + joined.get() - left.get());
+        assertThat(currentPeople).isBetween(1, MAX_PEOPLE);
+        
+        assertThroughput("join/leave", ATTEMPTS, elapsedNanos);
+    }
+    
+    private PostResponseDto createRecruitment() {
+        return communityService.createPost(new PostRequestDto(
+                Category.TAXI, "동시 참여 테스트", "부하 테스트용 모집글", "테스터", 3000, MAX_PEOPLE));
+    }
+    
+    private long openCount(Category category) {
+        return communityService.getStats().getCategories().stream()
+                .filter(count -> count.getCategory() == category)
+                .mapToLong(PostCategoryCountDto::getOpenCount)
+                .sum();
+    }
+    
+    /**
+     * 모든 스레드를 동시에 출발시켜 작업을 count번 실행하고 걸린 시간을 반환 (작업 중 예상 밖 예외는 그대로 실패)
+     */
+    private long runConcurrently(int count, Callable<Void> task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<Void> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        return System.nanoTime() - startedAt;
+    }
+    
+    private static void assertThroughput(String name, int operations, long elapsedNanos) {
+        double opsPerSecond = operations * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        log.info("{}: {} requests / {} threads in {} ms ({} req/s)", name, operations, THREADS,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), Math.round(opsPerSecond));
+        assertThat(opsPerSecond).isGreaterThan(MIN_OPS_PER_SECOND);
+    }
+}
@@ -0,0 +1,143 @@
+package com.smat.api.community.service;
+
+import com.smat.api.community.domain.Category;
+import com.smat.api.community.dto.PostCategoryCountDto;
+import com.smat.api.community.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PostCounters 기동 집계와 커밋 후 증감이 겹칠 때
+ * 집계 도중 커밋된 쓰기가 빠지거나 두 번 세어지지 않아야 합니다.
+ */
+class PostCountersTest {
+    
+    private PostRepository postRepository;
+    private PostCounters counters;
+    
+    // DB에 커밋된 TAXI 게시글 수 (모두 모집 중)
+    private final AtomicInteger committedTaxi = new AtomicInteger(3);
+    
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        counters = new PostCounters(postRepository);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+    
+    @Test
+    @DisplayName("집계 도중 커밋된 게시글은 한 번만 센다")
+    void writeCommittedDuringQueryIsCountedOnce() {
+        AtomicInteger queries = new AtomicInteger();
+        when(postRepository.countByCategory()).thenAnswer(invocation -> {
+            if (queries.getAndIncrement() == 0) {
+                // 집계가 새 글을 이미 보았는데 증감은 집계 뒤에 반영되는 경우
+                List<TransactionSynchronization> commit = beginWrite(() -> counters.postCreated(Category.TAXI, true));
+                committedTaxi.incrementAndGet();
+                List<PostCategoryCountDto> counts = counts();
+                finishWrite(commit);
+                return counts;
+            }
+            return counts();
+        });
+        
+        counters.seed();
+        
+        assertThat(counters.isSeeded()).isTrue();
+        assertThat(queries.get()).isEqualTo(2);
+        assertTaxi(4);
+    }
+    
+    @Test
+    @DisplayName("커밋 중인 쓰기가 끝날 때까지 기준값을 정하지 않는다")
+    void seedWaitsForWriteInFlight() throws Exception {
+        when(postRepository.countByCategory()).thenAnswer(invocation -> counts());
+        
+        // 커밋은 시작했지만 증감은 아직 반영 전
+        List<TransactionSynchronization> commit = beginWrite(() -> counters.postCreated(Category.TAXI, true));
+        committedTaxi.incrementAndGet();
+        CompletableFuture<Void> seeding = CompletableFuture.runAsync(counters::seed);
+        Thread.sleep(120);
+        assertThat(counters.isSeeded()).isFalse();
+        
+        finishWrite(commit);
+        seeding.get(5, TimeUnit.SECONDS);
+        
+        assertThat(counters.isSeeded()).isTrue();
+        assertTaxi(4);
+    }
+    
+    @Test
+    @DisplayName("기준값을 정한 뒤의 증감은 기준값에 더해진다")
+    void deltasAfterSeedAddToBase() {
+        when(postRepository.countByCategory()).thenAnswer(invocation -> counts());
+        counters.seed();
+        
+        // 트랜잭션 밖이면 바로 반영
+        counters.postCreated(Category.TAXI, true);
+        counters.openChanged(Category.TAXI, true, false);
+        counters.postDeleted(Category.BOOK, false);
+        
+        PostCategoryCountDto taxi = stat(Category.TAXI);
+        assertThat(taxi.getPostCount()).isEqualTo(4);
+        assertThat(taxi.getOpenCount()).isEqualTo(3);
+        assertThat(stat(Category.BOOK).getPostCount()).isEqualTo(-1);
+    }
+    
+    /**
+     * 트랜잭션 안에서 쓰기를 등록하고 커밋 직전까지 진행
+     */
+    private static List<TransactionSynchronization> beginWrite(Runnable write) {
+        TransactionSynchronizationManager.initSynchronization();
+        write.run();
+        List<TransactionSynchronization> synchronizations = new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        return synchronizations;
+    }
+    
+    private static void finishWrite(List<TransactionSynchronization> synchronizations) {
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+    
+    private List<PostCategoryCountDto> counts() {
+        List<PostCategoryCountDto> counts = new ArrayList<>();
+        counts.add(new PostCategoryCountDto(Category.TAXI, committedTaxi.get(), committedTaxi.get()));
+        return counts;
+    }
+    
+    private void assertTaxi(long expected) {
+        PostCategoryCountDto taxi = stat(Category.TAXI);
+        assertThat(taxi.getPostCount()).isEqualTo(expected);
+        assertThat(taxi.getOpenCount()).isEqualTo(expected);
+        assertThat(counters.getStats().getTotalPosts()).isEqualTo(expected);
+    }
+    
+    private PostCategoryCountDto stat(Category category) {
+        return counters.getStats().getCategories().stream()
+                .filter(count -> count.getCategory() == category)
+                .findFirst()
+                .orElseThrow();
+    }
+}
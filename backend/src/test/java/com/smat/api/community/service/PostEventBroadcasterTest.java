@@ -0,0 +1,163 @@
+package com.smat.api.community.service;
+
+import com.smat.api.common.ServiceUnavailableException;
+import com.smat.api.community.domain.Category;
+import com.smat.api.community.domain.PostEventType;
+import com.smat.api.community.dto.PostSummaryDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * PostEventBroadcaster 느린 구독자 처리
+ * 전송이 막힌 구독자가 있어도 발행 스레드와 다른 구독자는 멈추지 않아야 합니다.
+ */
+class PostEventBroadcasterTest {
+    
+    private static final Duration NON_BLOCKING = Duration.ofSeconds(1);
+    
+    private PostEventBroadcaster broadcaster;
+    
+    @AfterEach
+    void tearDown() {
+        if (broadcaster != null) {
+            broadcaster.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("전송이 막힌 구독자는 write-timeout 후 끊기고, 다른 구독자는 계속 이벤트를 받는다")
+    void stalledSubscriberDoesNotBlockOthers() throws Exception {
+        // 전송 스레드 1개, 전송 1회 제한 100ms
+        broadcaster = newBroadcaster(16, 100);
+        
+        StalledEmitter stalled = new StalledEmitter();
+        broadcaster.subscribe(stalled);
+        // 하나뿐인 전송 스레드가 "connected" 전송에서 막힘
+        assertThat(stalled.sending.await(1, TimeUnit.SECONDS)).isTrue();
+        
+        RecordingEmitter healthy = new RecordingEmitter(2);
+        broadcaster.subscribe(healthy);
+        assertTimeoutPreemptively(NON_BLOCKING, () -> broadcaster.publish(PostEventType.CREATED, summary()));
+        
+        // connected + created
+        assertThat(healthy.received.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(broadcaster.getStalledCount()).isEqualTo(1);
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+        // 막힌 전송이 emitter 락을 잡고 있는 동안에는 다른 스레드가 complete()를 부르지 않음
+        assertThat(stalled.completedBy).isNull();
+        
+        stalled.release.countDown();
+        assertThat(stalled.completed.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(stalled.completedBy).matches("post-events-\\d+");
+    }
+    
+    @Test
+    @DisplayName("큐가 가득 찬 구독자는 발행 스레드를 막지 않고 끊기며, 연결 종료는 전송 스레드가 한다")
+    void overflowingSubscriberIsClosedBySenderThread() throws Exception {
+        // 감시에 걸리지 않도록 write-timeout은 길게
+        broadcaster = newBroadcaster(4, 60_000);
+        
+        StalledEmitter stalled = new StalledEmitter();
+        broadcaster.subscribe(stalled);
+        assertThat(stalled.sending.await(1, TimeUnit.SECONDS)).isTrue();
+        
+        assertTimeoutPreemptively(NON_BLOCKING, () -> {
+            for (int i = 0; i < 10; i++) {
+                broadcaster.publish(PostEventType.UPDATED, summary());
+            }
+            broadcaster.heartbeat();
+        });
+        assertThat(broadcaster.getDroppedCount()).isEqualTo(1);
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+        assertThat(stalled.completedBy).isNull();
+        
+        stalled.release.countDown();
+        assertThat(stalled.completed.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(stalled.completedBy).matches("post-events-\\d+");
+        assertThat(stalled.sends.get()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("구독자 수 상한을 넘으면 503 (ServiceUnavailableException)")
+    void rejectsSubscribersOverLimit() {
+        broadcaster = newBroadcaster(4, 60_000);
+        for (int i = 0; i < 10; i++) {
+            broadcaster.subscribe(new RecordingEmitter(1));
+        }
+        
+        assertThatThrownBy(() -> broadcaster.subscribe(new RecordingEmitter(1)))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(10);
+    }
+    
+    private static PostEventBroadcaster newBroadcaster(int queueSize, long writeTimeoutMillis) {
+        PostEventBroadcaster broadcaster = new PostEventBroadcaster(Jackson2ObjectMapperBuilder.json().build(),
+                10, queueSize, 60_000, 1, writeTimeoutMillis, 60_000);
+        broadcaster.start();
+        return broadcaster;
+    }
+    
+    private static PostSummaryDto summary() {
+        return new PostSummaryDto(1L, Category.TAXI, "천안역 택시", "작성자", 4000, 1, 4, LocalDateTime.now());
+    }
+    
+    /**
+     * 전송 중 release 전까지 멈추는 emitter (느린 클라이언트)
+     * 실제 SseEmitter처럼 send()와 complete()가 같은 락을 씁니다.
+     */
+    private static final class StalledEmitter extends SseEmitter {
+        
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+        final AtomicInteger sends = new AtomicInteger();
+        volatile String completedBy;
+        
+        @Override
+        public synchronized void send(SseEventBuilder builder) {
+            sends.incrementAndGet();
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        
+        @Override
+        public synchronized void complete() {
+            completedBy = Thread.currentThread().getName();
+            completed.countDown();
+        }
+    }
+    
+    /**
+     * 받은 이벤트 수만 세는 emitter
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        
+        final CountDownLatch received;
+        
+        RecordingEmitter(int expected) {
+            this.received = new CountDownLatch(expected);
+        }
+        
+        @Override
+        public synchronized void send(SseEventBuilder builder) {
+            received.countDown();
+        }
+    }
+}
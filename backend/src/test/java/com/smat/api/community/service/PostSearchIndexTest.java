@@ -0,0 +1,119 @@
+package com.smat.api.community.service;
+
+import com.smat.api.community.domain.Category;
+import com.smat.api.community.domain.Post;
+import com.smat.api.community.dto.PostSummaryDto;
+import com.smat.api.community.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PostSearchIndex 한글 검색
+ * 색인 검색 결과가 DB LIKE 검색 (부분 문자열)과 같아야 하고,
+ * 색인을 만드는 중에 바뀐 게시글이 이전 내용으로 덮어써지지 않아야 합니다.
+ */
+class PostSearchIndexTest {
+    
+    private PostSearchIndex index;
+    private PostSearchIndex warmingIndex;
+    
+    @BeforeEach
+    void setUp() {
+        index = new PostSearchIndex(null);
+        index.add(post(1L, Category.BOOK, "공룡책 팝니다", "상태 좋아요"));
+        index.add(post(2L, Category.BOOK, "전공 서적", "책을 삽니다"));
+        index.add(post(3L, Category.TEAM, "점심 같이 먹어요", "학식 밥 메이트 구함"));
+        index.add(post(4L, Category.TEAM, "볶음밥 맛집", "정문 앞"));
+        index.add(post(5L, Category.TAXI, "천안역 택시", "같이 타요"));
+    }
+    
+    @Test
+    @DisplayName("한 글자 검색어는 단어 중간에 나온 글자도 찾는다")
+    void singleLetterQueryMatchesInsideWords() {
+        assertThat(ids("책")).containsExactly(1L, 2L);
+        assertThat(ids("밥")).containsExactlyInAnyOrder(3L, 4L);
+        // 제목 일치가 본문 일치보다 앞
+        assertThat(ids("밥")).containsExactly(4L, 3L);
+    }
+    
+    @Test
+    @DisplayName("두 글자 검색어는 붙어 있는 두 글자만 찾는다")
+    void twoLetterQueryMatchesAdjacentLetters() {
+        assertThat(ids("공룡")).containsExactly(1L);
+        assertThat(ids("룡책")).containsExactly(1L);
+        assertThat(ids("전공")).containsExactly(2L);
+        // 글자는 모두 있지만 붙어 있지 않음
+        assertThat(ids("공책")).isEmpty();
+        assertThat(ids("같이")).containsExactly(3L, 5L);
+    }
+    
+    @Test
+    @DisplayName("삭제한 게시글은 한 글자 검색에서도 빠진다")
+    void removedPostIsNotFoundByUnigram() {
+        index.remove(1L);
+        
+        assertThat(ids("책")).containsExactly(2L);
+        assertThat(ids("룡")).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("색인 중 삭제된 게시글은 먼저 읽어 둔 내용으로 되살아나지 않는다")
+    void postDeletedDuringWarmUpStaysDeleted() {
+        PostRepository repository = mock(PostRepository.class);
+        Post post = post(10L, Category.BOOK, "공룡책 팝니다", "상태 좋아요");
+        when(repository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            // 배치를 읽은 직후 삭제가 커밋되어 실시간으로 반영됨
+            warmingIndex.remove(10L);
+            return Collections.singletonList(post);
+        });
+        when(repository.findAllById(any())).thenReturn(Collections.emptyList());
+        warmingIndex = new PostSearchIndex(repository);
+        
+        warmingIndex.warmUp();
+        
+        assertThat(warmingIndex.isReady()).isTrue();
+        assertThat(warmingIndex.size()).isZero();
+        assertThat(warmingIndex.search("공룡", null, 0, 10).getTotal()).isZero();
+    }
+    
+    @Test
+    @DisplayName("색인 중 수정된 게시글은 수정된 내용으로 색인된다")
+    void postUpdatedDuringWarmUpKeepsNewText() {
+        PostRepository repository = mock(PostRepository.class);
+        Post before = post(10L, Category.BOOK, "공룡책 팝니다", "상태 좋아요");
+        Post after = post(10L, Category.BOOK, "전공 서적 팝니다", "상태 좋아요");
+        when(repository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            warmingIndex.add(after);
+            return Collections.singletonList(before);
+        });
+        when(repository.findAllById(any())).thenReturn(Collections.singletonList(after));
+        warmingIndex = new PostSearchIndex(repository);
+        
+        warmingIndex.warmUp();
+        
+        assertThat(warmingIndex.search("공룡", null, 0, 10).getTotal()).isZero();
+        assertThat(warmingIndex.search("전공", null, 0, 10).getPosts())
+                .extracting(PostSummaryDto::getTitle).containsExactly("전공 서적 팝니다");
+    }
+    
+    private Long[] ids(String query) {
+        return index.search(query, null, 0, 10).getPosts().stream()
+                .map(PostSummaryDto::getId)
+                .toArray(Long[]::new);
+    }
+    
+    private static Post post(Long id, Category category, String title, String content) {
+        return new Post(id, category, title, content, "작성자", null, 1, 4, LocalDateTime.now());
+    }
+}
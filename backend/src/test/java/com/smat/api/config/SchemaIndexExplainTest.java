@@ -0,0 +1,62 @@
+package com.smat.api.config;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션 인덱스 사용 확인
+ * H2 (MySQL 모드)에서 저장소 finder와 같은 모양의 SQL을 EXPLAIN 해, 실행 계획이 의도한 인덱스를 타는지 확인합니다.
+ * H2는 실행 계획에 사용한 인덱스를 "PUBLIC.인덱스명" 주석으로 표시합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "spring.jpa.show-sql=false")
+class SchemaIndexExplainTest {
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    static Stream<Arguments> finderQueries() {
+        return Stream.of(
+            // MenuRepository.findMenuDtosByDate / findMenuDtosByDateAndTimeType
+            Arguments.of("SELECT * FROM menu WHERE date = DATE '2026-03-02'",
+                    "IDX_MENU_DATE_TIME_TYPE_RESTAURANT"),
+            Arguments.of("SELECT * FROM menu WHERE date = DATE '2026-03-02' AND time_type = '중식'",
+                    "IDX_MENU_DATE_TIME_TYPE_RESTAURANT"),
+            // LectureRepository.findByDay (시작 시각 순) / findByProfessor
+            Arguments.of("SELECT * FROM lecture WHERE lecture_day = '월' ORDER BY start_minute",
+                    "IDX_LECTURE_DAY_START_MINUTE"),
+            Arguments.of("SELECT * FROM lecture WHERE professor = '김철수 교수'",
+                    "IDX_LECTURE_PROFESSOR"),
+            // PostRepository.findFirstPageByCategory / findByWriter
+            Arguments.of("SELECT * FROM post WHERE category = 'TAXI' ORDER BY created_date DESC, id DESC LIMIT 20",
+                    "IDX_POST_CATEGORY_CREATED_DATE_ID"),
+            Arguments.of("SELECT * FROM post WHERE writer = '작성자' ORDER BY created_date",
+                    "IDX_POST_WRITER_CREATED_DATE"),
+            // PostRepository.findPageAfter (키셋 페이지)
+            // 조건 없는 첫 페이지 (ORDER BY ... DESC만)는 H2가 인덱스를 역방향으로 읽지 못해 항상 tableScan이므로 제외 (MySQL은 역방향 스캔)
+            Arguments.of("SELECT * FROM post WHERE created_date <= TIMESTAMP '2026-03-02 12:00:00' "
+                    + "ORDER BY created_date DESC, id DESC LIMIT 20",
+                    "IDX_POST_CREATED_DATE_ID"),
+            // EnrollmentRepository.findLectureIdsByStudentId / 강의별 수강생
+            Arguments.of("SELECT lecture_id FROM enrollment WHERE student_id = '20201234'",
+                    "UK_ENROLLMENT_STUDENT_LECTURE"),
+            Arguments.of("SELECT student_id FROM enrollment WHERE lecture_id = 1",
+                    "IDX_ENROLLMENT_LECTURE")
+        );
+    }
+    
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("finderQueries")
+    void finderUsesIndex(String sql, String index) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        
+        assertThat(plan).as(plan).containsIgnoringCase("PUBLIC." + index);
+    }
+}
@@ -0,0 +1,62 @@
+package com.smat.api.home.service;
+
+import com.smat.api.campus.service.CampusService;
+import com.smat.api.community.service.CommunityService;
+import com.smat.api.home.dto.HomeResponseDto;
+import com.smat.api.schedule.service.ScheduleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * HomeService 항목별 제한 시간
+ * 시간 초과한 항목은 응답에서 빠지고, 실행 중이던 작업은 인터럽트되어 스레드를 돌려줘야 합니다.
+ */
+class HomeServiceTest {
+    
+    private HomeService homeService;
+    
+    @AfterEach
+    void tearDown() {
+        if (homeService != null) {
+            homeService.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("시간 초과한 항목은 failedSections에 담기고 실행 중인 작업은 취소된다")
+    void timedOutSectionIsCancelled() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CampusService campusService = mock(CampusService.class);
+        when(campusService.getTodayMenus()).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return Collections.emptyList();
+        });
+        ScheduleService scheduleService = mock(ScheduleService.class);
+        CommunityService communityService = mock(CommunityService.class);
+        when(communityService.getRecentPosts()).thenReturn(Collections.emptyList());
+        homeService = new HomeService(campusService, scheduleService, communityService, 100, 4, 10);
+        
+        HomeResponseDto home = homeService.getHome();
+        
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(home.isPartial()).isTrue();
+        assertThat(home.getFailedSections()).containsExactly(HomeService.TODAY_MENUS);
+        assertThat(home.getRecentPosts()).isEmpty();
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,77 @@
+package com.smat.api.schedule.service;
+
+import com.smat.api.common.DataVersions;
+import com.smat.api.common.SingleFlight;
+import com.smat.api.schedule.repository.EnrollmentRepository;
+import com.smat.api.schedule.repository.LectureRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * StudentScheduleCache 학생별 무효화
+ * 한 학생의 무효화는 그 학생의 로딩 결과만 버리고, 다른 학생의 로딩 결과는 그대로 캐시해야 합니다.
+ */
+class StudentScheduleCacheTest {
+    
+    private EnrollmentRepository enrollmentRepository;
+    private StudentScheduleCache cache;
+    
+    @BeforeEach
+    void setUp() {
+        enrollmentRepository = mock(EnrollmentRepository.class);
+        LectureRepository lectureRepository = mock(LectureRepository.class);
+        when(lectureRepository.findAllById(Collections.emptyList())).thenReturn(Collections.emptyList());
+        cache = new StudentScheduleCache(enrollmentRepository, lectureRepository,
+                new SingleFlight(new DataVersions()), 100, 4);
+    }
+    
+    @Test
+    @DisplayName("다른 학생이 무효화되어도 로딩 중이던 학생의 시간표는 캐시된다")
+    void otherStudentInvalidationDoesNotDropLoad() {
+        when(enrollmentRepository.findLectureIdsByStudentId(anyString())).thenAnswer(invocation -> {
+            cache.invalidate("20200002");
+            return Collections.emptyList();
+        });
+        
+        cache.get("20200001");
+        
+        assertThat(cache.size()).isEqualTo(1);
+        cache.get("20200001");
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("로딩 중 같은 학생이 무효화되면 그 결과는 캐시하지 않는다")
+    void sameStudentInvalidationDropsLoad() {
+        when(enrollmentRepository.findLectureIdsByStudentId(anyString())).thenAnswer(invocation -> {
+            cache.invalidate(invocation.getArgument(0));
+            return Collections.emptyList();
+        });
+        
+        cache.get("20200001");
+        
+        assertThat(cache.size()).isZero();
+    }
+    
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 안 쓴 학생부터 내보낸다")
+    void evictsLeastRecentlyUsedPerSegment() {
+        when(enrollmentRepository.findLectureIdsByStudentId(anyString())).thenReturn(Collections.emptyList());
+        
+        for (int i = 0; i < 1000; i++) {
+            cache.get(String.valueOf(20200000 + i));
+        }
+        
+        // 구역 4개 x 구역당 25명
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        assertThat(cache.getEvictionCount()).isEqualTo(1000 - cache.size());
+    }
+}